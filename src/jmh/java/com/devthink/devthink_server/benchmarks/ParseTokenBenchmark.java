@@ -0,0 +1,67 @@
+package com.devthink.devthink_server.benchmarks;
+
+import com.devthink.devthink_server.application.AuthenticationService;
+import com.devthink.devthink_server.application.TokenRevocationList;
+import com.devthink.devthink_server.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationService.parseToken 의 처리량을 토큰 캐시를 쓰지 않을 때(cacheMaxSize=0)와 쓸 때로 비교합니다.
+ * 캐시를 쓰지 않으면 요청마다 서명을 검증하고 클레임을 파싱하며, 캐시를 쓰면 토큰 해시로 조회만 합니다.
+ * 여러 스레드에서 실행하면(-t 8) 캐시의 락 경합도 함께 측정됩니다.
+ * 실행: ./gradlew jmh -PjmhArgs="ParseToken -t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseTokenBenchmark {
+    private static final String SECRET = "12345678901234567890123456789012";
+    private static final int USERS = 1000;
+
+    @Param({"0", "10000"})
+    private int cacheMaxSize;
+
+    private AuthenticationService authenticationService;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 1800, 1209600);
+        authenticationService = new AuthenticationService(null, jwtUtil, null,
+                new TokenRevocationList(null, 100000), cacheMaxSize, 300);
+        tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = jwtUtil.encode((long) i + 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        private int next() {
+            index = (index + 1) % USERS;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public Long parseToken(Cursor cursor) {
+        return authenticationService.parseToken(tokens[cursor.next()]);
+    }
+}
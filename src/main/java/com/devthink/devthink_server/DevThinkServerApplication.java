@@ -1,5 +1,7 @@
 package com.devthink.devthink_server;
 
+import com.devthink.devthink_server.utils.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -14,8 +16,14 @@ public class DevThinkServerApplication {
         SpringApplication.run(DevThinkServerApplication.class, args);
     }
 
+    /**
+     * 비밀번호 해시는 전용 스레드풀에서 계산합니다.
+     * 비용(strength)을 올리면 기존 비밀번호는 다음 로그인 때 새 비용으로 다시 해시됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int strength,
+                                           @Value("${password.hash-threads:4}") int threads,
+                                           @Value("${password.hash-queue-size:32}") int queueSize) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueSize);
     }
 }
@@ -2,46 +2,165 @@ package com.devthink.devthink_server.application;
 
 
 import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.dto.SessionResponseData;
 import com.devthink.devthink_server.infra.UserRepository;
 import com.devthink.devthink_server.errors.InvalidTokenException;
 import com.devthink.devthink_server.errors.LoginFailException;
+import com.devthink.devthink_server.utils.ExpiringLruCache;
 import com.devthink.devthink_server.utils.JwtUtil;
 import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthenticationService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationList tokenRevocationList;
+    // 검증된 토큰의 SHA-256 해시 -> 유저 아이디, jti
+    private final ExpiringLruCache<String, VerifiedToken> verifiedTokens;
 
     public AuthenticationService(UserRepository userRepository,
-                                 JwtUtil jwtUtil, PasswordEncoder passwordEncoder) {
+                                 JwtUtil jwtUtil, PasswordEncoder passwordEncoder,
+                                 TokenRevocationList tokenRevocationList,
+                                 @Value("${jwt.cache-max-size:10000}") int cacheMaxSize,
+                                 @Value("${jwt.cache-ttl-seconds:300}") long cacheTtlSeconds) {
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationList = tokenRevocationList;
+        this.verifiedTokens = new ExpiringLruCache<>(cacheMaxSize, TimeUnit.SECONDS.toMillis(cacheTtlSeconds));
     }
 
-    @Transactional
-    public String login(String email, String password) {
+    /**
+     * 로그인하고 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * 비밀번호 해시를 계산하는 스레드풀이 가득 차면 PasswordHashBusyException 이 발생합니다.
+     * 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회하고 검증하며,
+     * 다시 해시한 비밀번호는 짧은 update 쿼리 하나로 저장합니다.
+     * @param email 이메일
+     * @param password 비밀번호
+     * @return SessionResponseData 액세스 토큰, 리프레시 토큰
+     */
+    public SessionResponseData login(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new LoginFailException(email));
 
         if(!user.authenticate(password, passwordEncoder)) {
             throw new LoginFailException(email);
         }
-        return jwtUtil.encode(user.getId());
+        // 설정된 비용보다 낮은 비용으로 저장된 비밀번호는 새 비용으로 다시 해시합니다.
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), user.getPassword(), passwordEncoder.encode(password));
+        }
+        return issue(user.getId());
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * 사용한 리프레시 토큰은 폐기되므로 한 번만 사용할 수 있습니다.
+     * @param refreshToken 리프레시 토큰
+     * @return SessionResponseData 새 액세스 토큰, 리프레시 토큰
+     */
+    public SessionResponseData refresh(String refreshToken) {
+        Claims claims = decode(refreshToken, JwtUtil.REFRESH_TOKEN);
+        if (!tokenRevocationList.revoke(claims.getId(), toLocalDateTime(claims))) {
+            throw new InvalidTokenException(refreshToken);
+        }
+        return issue(claims.get("userId", Long.class));
+    }
+
+    /**
+     * 액세스 토큰과 리프레시 토큰을 만료 전에 폐기합니다.
+     * @param accessToken 액세스 토큰
+     * @param refreshToken 리프레시 토큰, 없으면 null
+     */
+    public void logout(String accessToken, String refreshToken) {
+        Claims access = decode(accessToken, JwtUtil.ACCESS_TOKEN);
+        if (refreshToken != null) {
+            Claims refresh = decode(refreshToken, JwtUtil.REFRESH_TOKEN);
+            if (!Objects.equals(access.get("userId", Long.class), refresh.get("userId", Long.class))) {
+                throw new InvalidTokenException(refreshToken);
+            }
+            tokenRevocationList.revoke(refresh.getId(), toLocalDateTime(refresh));
+        }
+        tokenRevocationList.revoke(access.getId(), toLocalDateTime(access));
+        verifiedTokens.remove(hash(accessToken));
     }
 
+    /**
+     * 토큰을 검증하고 유저 아이디를 반환합니다.
+     * 한 번 검증된 토큰은 해시를 키로 토큰 만료 시각까지 캐시하여, 같은 토큰으로 다시 요청하면 서명 검증과 클레임 파싱을 건너뜁니다.
+     * 토큰 원문 대신 해시를 저장하므로 캐시가 노출되어도 토큰을 재사용할 수 없습니다.
+     * 폐기 여부는 메모리의 폐기 목록으로 확인하므로 DB를 조회하지 않습니다.
+     * @param token 액세스 토큰
+     * @return Long 유저 아이디
+     */
     public Long parseToken(String token) {
         if(token == null) {
             throw new InvalidTokenException(token);
         }
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.get(tokenHash);
+        if (verified == null) {
+            Claims claims = decode(token, JwtUtil.ACCESS_TOKEN);
+            verified = new VerifiedToken(claims.get("userId", Long.class), claims.getId());
+            verifiedTokens.put(tokenHash, verified, claims.getExpiration().getTime());
+        }
+        if (tokenRevocationList.isRevoked(verified.jti)) {
+            throw new InvalidTokenException(token);
+        }
+        return verified.userId;
+    }
+
+    private SessionResponseData issue(Long userId) {
+        return SessionResponseData.builder()
+                .accessToken(jwtUtil.encode(userId))
+                .refreshToken(jwtUtil.encodeRefreshToken(userId))
+                .build();
+    }
+
+    // 만료 시각과 jti 가 없는 토큰, 다른 종류의 토큰은 받지 않습니다.
+    private Claims decode(String token, String type) {
         Claims claims = jwtUtil.decode(token);
-        return claims.get("userId", Long.class);
+        if (!type.equals(claims.get(JwtUtil.TOKEN_TYPE, String.class))
+                || claims.getExpiration() == null || claims.getId() == null
+                || claims.get("userId", Long.class) == null) {
+            throw new InvalidTokenException(token);
+        }
+        return claims;
+    }
+
+    private static LocalDateTime toLocalDateTime(Claims claims) {
+        return LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
     }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Long userId;
+        private final String jti;
+
+        private VerifiedToken(Long userId, String jti) {
+            this.userId = userId;
+            this.jti = jti;
+        }
+    }
 }
@@ -0,0 +1,289 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.HeartTarget;
+import com.devthink.devthink_server.domain.Post;
+import com.devthink.devthink_server.dto.PostListData;
+import com.devthink.devthink_server.dto.UserProfileData;
+import com.devthink.devthink_server.infra.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 베스트 게시글 순위를 메모리에 유지합니다.
+ * 어제 0시 이후 작성된 게시글을 좋아요 수 순으로 정렬해 두고, 게시글 작성/수정/삭제가 커밋될 때와 좋아요 변경 때마다 순위를 갱신합니다.
+ * 상위 게시글 목록은 갱신 시점에 미리 만들어 두므로 조회는 DB를 거치지 않습니다.
+ * 카테고리 순위는 처음 조회될 때 잠금 없이 DB에서 한 번 불러와 교체하고, 매일 0시에 기간이 지난 게시글을 제외합니다.
+ */
+@Component
+public class BestPostBoard {
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt((Candidate candidate) -> candidate.heartCnt).reversed()
+            .thenComparing(candidate -> candidate.post.getId(), Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final HeartCounter heartCounter;
+    private final int size;
+    private final Map<Long, CategoryBoard> boards = new ConcurrentHashMap<>();
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    // 순위를 불러오는 중인 카테고리, 불러오는 동안 커밋된 작성/수정/삭제를 모아 둡니다.
+    private final Map<Long, LoadingBoard> loading = new HashMap<>();
+    private LocalDateTime windowStart = startOfWindow();
+
+    public BestPostBoard(PostRepository postRepository, HeartCounter heartCounter,
+                         @Value("${best-post.size:1}") int size) {
+        this.postRepository = postRepository;
+        this.heartCounter = heartCounter;
+        this.size = size;
+    }
+
+    /**
+     * 카테고리의 베스트 게시글을 좋아요 수 순으로 반환합니다.
+     * @param categoryId 카테고리 식별자
+     * @return List<PostListData> 베스트 게시글
+     */
+    public List<PostListData> getBestPosts(Long categoryId) {
+        CategoryBoard board = boards.get(categoryId);
+        if (board == null) {
+            board = load(categoryId);
+        }
+        return board.top.stream()
+                .map(BestPostBoard::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작성이 커밋된 게시글을 순위에 추가합니다. 롤백되면 호출되지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void postCreated(PostCreatedEvent event) {
+        Post post = event.getPost();
+        if (post.getCreateAt() == null || post.getCreateAt().isBefore(windowStart)) {
+            return;
+        }
+        Long categoryId = post.getCategory().getId();
+        LoadingBoard loadingBoard = loading.get(categoryId);
+        if (loadingBoard != null) {
+            loadingBoard.created.put(post.getId(), toListData(post, event.getAuthor()));
+            return;
+        }
+        CategoryBoard board = boards.get(categoryId);
+        if (board == null) {
+            return;
+        }
+        Candidate candidate = new Candidate(board, toListData(post, event.getAuthor()), 0);
+        candidates.put(post.getId(), candidate);
+        board.ranking.add(candidate);
+        board.publish(size);
+    }
+
+    /**
+     * 수정이 커밋된 게시글의 제목을 순위에 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void postUpdated(PostUpdatedEvent event) {
+        Post post = event.getPost();
+        LoadingBoard loadingBoard = loading.get(post.getCategory().getId());
+        if (loadingBoard != null) {
+            loadingBoard.updated.put(post.getId(), post);
+        }
+        Candidate candidate = candidates.get(post.getId());
+        if (candidate != null) {
+            candidate.post.setTitle(post.getTitle());
+            candidate.post.setUpdateAt(post.getUpdateAt());
+            candidate.board.publish(size);
+        }
+    }
+
+    /**
+     * 삭제가 커밋된 게시글을 순위에서 제외합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void postDeleted(PostDeletedEvent event) {
+        Long postId = event.getPostId();
+        loading.values().forEach(loadingBoard -> loadingBoard.deleted.add(postId));
+        Candidate candidate = candidates.remove(postId);
+        if (candidate != null) {
+            candidate.board.ranking.remove(candidate);
+            candidate.board.publish(size);
+        }
+    }
+
+    /**
+     * 게시글의 좋아요 수 변경을 아직 DB에 반영되지 않은 변경분과 순위에 함께 반영합니다.
+     * 두 반영을 같은 잠금 안에서 하므로, 순위를 불러오는 install 은 이 변경분을 이미 반영된 순위에 다시 더하지 않습니다.
+     * @param postId 게시글 식별자
+     * @param delta 변경분 (좋아요 1, 좋아요 취소 -1)
+     */
+    public synchronized void hearted(Long postId, int delta) {
+        heartCounter.add(HeartTarget.POST, postId, delta);
+        Candidate candidate = candidates.get(postId);
+        if (candidate == null) {
+            return;
+        }
+        CategoryBoard board = candidate.board;
+        board.ranking.remove(candidate);
+        candidate.heartCnt += delta;
+        candidate.post.setHeartCnt(candidate.heartCnt);
+        board.ranking.add(candidate);
+        board.publish(size);
+    }
+
+    /**
+     * 매일 0시에 집계 기간을 옮기고 기간이 지난 게시글을 순위에서 제외합니다.
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void rollover() {
+        windowStart = startOfWindow();
+        Iterator<Candidate> iterator = candidates.values().iterator();
+        while (iterator.hasNext()) {
+            Candidate candidate = iterator.next();
+            if (candidate.post.getCreateAt().isBefore(windowStart)) {
+                candidate.board.ranking.remove(candidate);
+                iterator.remove();
+            }
+        }
+        boards.values().forEach(board -> board.publish(size));
+    }
+
+    /**
+     * 카테고리 순위를 DB에서 불러옵니다.
+     * 조회하는 동안에는 잠금을 잡지 않아 다른 카테고리의 조회와 좋아요 반영을 막지 않고, 결과는 install 에서 짧게 교체합니다.
+     * 같은 카테고리를 동시에 조회한 요청은 먼저 시작한 요청의 결과를 기다립니다.
+     */
+    private CategoryBoard load(Long categoryId) {
+        LoadingBoard loadingBoard;
+        boolean owner = false;
+        synchronized (this) {
+            CategoryBoard loaded = boards.get(categoryId);
+            if (loaded != null) {
+                return loaded;
+            }
+            loadingBoard = loading.get(categoryId);
+            if (loadingBoard == null) {
+                loadingBoard = new LoadingBoard(windowStart);
+                loading.put(categoryId, loadingBoard);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            return loadingBoard.await();
+        }
+
+        try {
+            List<PostListData> posts = postRepository.findListDataCreatedSince(categoryId, loadingBoard.windowStart);
+            CategoryBoard board = install(categoryId, loadingBoard, posts);
+            loadingBoard.result.complete(board);
+            return board;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(categoryId);
+            }
+            loadingBoard.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 불러온 게시글에 조회하는 동안 커밋된 작성/수정/삭제를 반영해 카테고리 순위로 등록합니다.
+     */
+    private synchronized CategoryBoard install(Long categoryId, LoadingBoard loadingBoard, List<PostListData> posts) {
+        loading.remove(categoryId);
+        CategoryBoard board = new CategoryBoard();
+        List<PostListData> loaded = new ArrayList<>(posts);
+        loadingBoard.created.forEach((postId, post) -> {
+            if (loaded.stream().noneMatch(row -> row.getId().equals(postId))) {
+                loaded.add(post);
+            }
+        });
+        for (PostListData post : loaded) {
+            if (loadingBoard.deleted.contains(post.getId()) || post.getCreateAt().isBefore(windowStart)) {
+                continue;
+            }
+            Post updated = loadingBoard.updated.get(post.getId());
+            if (updated != null) {
+                post.setTitle(updated.getTitle());
+                post.setUpdateAt(updated.getUpdateAt());
+            }
+            int heartCnt = heartCounter.merge(HeartTarget.POST, post.getId(), post.getHeartCnt());
+            post.setHeartCnt(heartCnt);
+            Candidate candidate = new Candidate(board, post, heartCnt);
+            candidates.put(post.getId(), candidate);
+            board.ranking.add(candidate);
+        }
+        board.publish(size);
+        boards.put(categoryId, board);
+        return board;
+    }
+
+    private static LocalDateTime startOfWindow() {
+        return LocalDate.now().minusDays(1).atStartOfDay();
+    }
+
+    private static PostListData toListData(Post post, UserProfileData author) {
+        return new PostListData(post.getId(), author.getId(), author.getNickname(),
+                post.getImageUrl(), post.getTitle(), 0, post.getCreateAt(), post.getUpdateAt());
+    }
+
+    private static PostListData copy(PostListData post) {
+        return new PostListData(post.getId(), post.getUserId(), post.getNickname(), post.getImageUrl(),
+                post.getTitle(), post.getHeartCnt(), post.getCreateAt(), post.getUpdateAt());
+    }
+
+    private static class CategoryBoard {
+        private final TreeSet<Candidate> ranking = new TreeSet<>(RANKING);
+        private volatile List<PostListData> top = Collections.emptyList();
+
+        private void publish(int size) {
+            top = ranking.stream()
+                    .limit(size)
+                    .map(candidate -> copy(candidate.post))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    private static class LoadingBoard {
+        private final LocalDateTime windowStart;
+        private final CompletableFuture<CategoryBoard> result = new CompletableFuture<>();
+        private final Map<Long, PostListData> created = new LinkedHashMap<>();
+        private final Map<Long, Post> updated = new HashMap<>();
+        private final Set<Long> deleted = new HashSet<>();
+
+        private LoadingBoard(LocalDateTime windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private CategoryBoard await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static class Candidate {
+        private final CategoryBoard board;
+        private final PostListData post;
+        private int heartCnt;
+
+        private Candidate(CategoryBoard board, PostListData post, int heartCnt) {
+            this.board = board;
+            this.post = post;
+            this.heartCnt = heartCnt;
+        }
+    }
+}
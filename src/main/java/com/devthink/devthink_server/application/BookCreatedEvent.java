@@ -0,0 +1,14 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 책이 새로 등록되었음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 검색 색인에 추가됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookCreatedEvent {
+    private final Book book;
+}
@@ -0,0 +1,94 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.infra.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 책에 유지되는 리뷰 수, 별점 합계, 평점이 리뷰 테이블과 어긋났는지 확인하고 바로잡습니다.
+ * 동시에 작성된 리뷰로 증감분이 유실되거나, 합계 컬럼이 없던 시절의 책이 남아 있는 경우를 보정합니다.
+ * 책을 id 순으로 나누어 페이지마다 한 번의 집계 쿼리와 한 번의 트랜잭션으로 처리합니다.
+ * 페이지의 책을 먼저 잠근 뒤 집계하므로, 집계와 저장 사이에 작성된 리뷰의 증감분을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class BookScoreReconciler {
+    private static final int PAGE_SIZE = 500;
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookScoreReconciler(BookRepository bookRepository, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시와 매일 정해진 시각에 전체 책을 보정합니다.
+     * @return 보정된 책 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${book.score-reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        int repaired = 0;
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            Page page = transactionTemplate.execute(status -> reconcilePage(afterId));
+            if (page == null || page.lastId == null) {
+                break;
+            }
+            repaired += page.repaired;
+            lastId = page.lastId;
+        }
+        if (repaired > 0) {
+            log.warn("Reconciled review count and score of {} books", repaired);
+        }
+        return repaired;
+    }
+
+    private Page reconcilePage(long afterId) {
+        List<Book> books = bookRepository.findForUpdateByIdGreaterThan(afterId, PageRequest.of(0, PAGE_SIZE));
+        if (books.isEmpty()) {
+            return new Page(null, 0);
+        }
+        Map<Long, BookRepository.ReviewScore> scores = bookRepository
+                .sumScoresByBookIdIn(books.stream().map(Book::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(BookRepository.ReviewScore::getBookId, Function.identity()));
+
+        int repaired = 0;
+        for (Book book : books) {
+            BookRepository.ReviewScore score = scores.get(book.getId());
+            int reviewCnt = score == null ? 0 : score.getReviewCnt().intValue();
+            BigDecimal scoreSum = score == null || score.getScoreSum() == null ? BigDecimal.ZERO : score.getScoreSum();
+            if (book.reconcile(reviewCnt, scoreSum)) {
+                repaired++;
+            }
+        }
+        return new Page(books.get(books.size() - 1).getId(), repaired);
+    }
+
+    private static class Page {
+        private final Long lastId;
+        private final int repaired;
+
+        private Page(Long lastId, int repaired) {
+            this.lastId = lastId;
+            this.repaired = repaired;
+        }
+    }
+}
@@ -7,18 +7,25 @@ import com.devthink.devthink_server.dto.BookRequestData;
 import com.devthink.devthink_server.dto.BookResponseData;
 import com.devthink.devthink_server.errors.BookNotFoundException;
 import com.devthink.devthink_server.infra.BookRepository;
+import com.devthink.devthink_server.infra.BookSearchIndex;
+import com.devthink.devthink_server.utils.NgramIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +34,10 @@ import java.util.stream.Collectors;
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final WeeklyBestBooks weeklyBestBooks;
+    private final MostReviewedBook mostReviewedBook;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 입력된 isbn 정보로 Book을 조회하며, 해당 책이 없는 경우 새로 생성하는 함수를 호출합니다.
@@ -57,7 +68,11 @@ public class BookService {
                 .writer(bookRequestData.getWriter())
                 .imgUrl(bookRequestData.getImgUrl())
                 .build();
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        // 롤백된 책이 검색되지 않도록 커밋된 뒤에 색인합니다.
+        eventPublisher.publishEvent(new BookCreatedEvent(savedBook));
+        mostReviewedBook.changed(savedBook);
+        return savedBook;
     }
 
     /**
@@ -89,54 +104,82 @@ public class BookService {
 
     /**
      * 리뷰 수가 가장 많은 책을 가져옵니다.
+     * 메모리에 유지되는 1위 책을 반환하며, 1위를 알 수 없는 경우에만 한 번 조회합니다.
      *
      * @return BookResponseDTO, 데이터가 없는 경우 null
      */
     public BookResponseData getMostReviewCntBook() {
-        if (bookRepository.findTopByOrderByReviewCntDesc().isEmpty()) {
-            return null;
-        } else {
-            return bookRepository.findTopByOrderByReviewCntDesc().get().toBookResponseData();
-        }
+        return mostReviewedBook.get();
     }
 
     /**
-     * 책 이름에 검색어가 포함 된 책을 조회합니다.
+     * 책 이름 또는 저자에 검색어가 포함 된 책을 관련도 순으로 조회합니다.
+     * 결과는 항상 관련도 순이며 pageable 의 정렬(sort)은 사용하지 않습니다.
+     * 전체 개수는 검색 색인에서 구하므로 별도의 count 쿼리를 실행하지 않습니다.
      *
      * @param search (검색어), pageable
      * @return 조회된 책 리스트
      */
     public Page<BookResponseData> getSearchBooks(String search, Pageable pageable) {
-        Page<Book> bookPage = bookRepository.findAllByNameContaining(search, pageable);
-        List<BookResponseData> bookResponseData = bookPage
-                .stream()
+        NgramIndex.Hits hits = bookSearchIndex.search(search, limitOf(pageable));
+        return new PageImpl<>(getBooksInPage(hits.getIds(), pageable), pageable, hits.getTotal());
+    }
+
+    /**
+     * 책 이름 또는 저자에 검색어가 포함 된 책을 관련도 순으로 조회하며, 다음 페이지 존재 여부만 전달합니다.
+     * 결과는 항상 관련도 순이며 pageable 의 정렬(sort)은 사용하지 않습니다.
+     *
+     * @param search (검색어), pageable
+     * @return 조회된 책 리스트
+     */
+    public Slice<BookResponseData> getSearchBookSlice(String search, Pageable pageable) {
+        NgramIndex.Hits hits = bookSearchIndex.search(search, limitOf(pageable));
+        boolean hasNext = pageable.getOffset() + pageable.getPageSize() < hits.getTotal();
+        return new SliceImpl<>(getBooksInPage(hits.getIds(), pageable), pageable, hasNext);
+    }
+
+    /**
+     * 해당 페이지까지 검색 색인에서 골라야 하는 상위 책의 수입니다.
+     */
+    private int limitOf(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 해당 페이지까지의 정렬된 책 식별자 중 해당 페이지의 책만 한 번의 쿼리로 가져와 순서대로 변환합니다.
+     */
+    private List<BookResponseData> getBooksInPage(List<Long> bookIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), bookIds.size());
+        List<Long> pageIds = bookIds.subList(from, bookIds.size());
+        if (pageIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Book> books = bookRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return pageIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
                 .map(Book::toBookResponseData)
                 .collect(Collectors.toList());
-        return new PageImpl<>(bookResponseData, pageable, bookPage.getTotalElements());
     }
 
     /**
-     * 아래의 파라미터 세개를 생성하여 'findTop5InPeriod' 를 호출하여 top5 책 리스트를 조회합니다.
+     * 미리 계산된 top5 책 리스트를 조회합니다.
      * 1. 리뷰 집계 시작 시간 (start) : 저번 주 시작 시간
      * 2. 리뷰 집계 끝 시간 (end) : 이번 주 시작 시간
-     * 3. Pageable 객체 : 5개의 데이터를 가지고 오도록 한다.
+     * 순위는 매주 월요일 0시에 다시 집계되므로 요청마다 리뷰 테이블을 집계하지 않고,
+     * 리뷰 수와 평점이 최신 값이 되도록 책 5권만 식별자로 조회합니다.
      *
-     * @return 가공된 BookBestListResponseData ( start, end, top5책 리스트 )
+     * @return BookBestListResponseData ( start, end, top5책 리스트 )
      */
     public BookBestListResponseData getTop5BooksInPeriod() {
-        LocalDate currentDate = LocalDate.now();
-        int day = currentDate.getDayOfWeek().getValue();
-        LocalDateTime end = currentDate.minusDays(day-1).atStartOfDay();
-        LocalDateTime start = end.minusDays(7);
-        Pageable pageable = PageRequest.of(0,5);
-        List<BookResponseData> books = bookRepository.findTop5InPeriod(start, end, pageable)
-                .stream()
-                .map(Book::toBookResponseData)
-                .collect(Collectors.toList());
+        WeeklyBestBooks.Snapshot snapshot = weeklyBestBooks.getSnapshot();
+        List<Long> bookIds = snapshot.getBookIds();
         return BookBestListResponseData.builder()
-                .start(start)
-                .end(end)
-                .books(books)
+                .start(snapshot.getStart())
+                .end(snapshot.getEnd())
+                .books(getBooksInPage(bookIds, PageRequest.of(0, Math.max(bookIds.size(), 1))))
                 .build();
     }
 
@@ -2,64 +2,91 @@ package com.devthink.devthink_server.application;
 
 import com.devthink.devthink_server.domain.Comment;
 import com.devthink.devthink_server.domain.CommentHeart;
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.errors.CommentNotFoundException;
 import com.devthink.devthink_server.errors.HeartAlreadyExistsException;
 import com.devthink.devthink_server.errors.HeartNotFoundException;
-import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.infra.CommentHeartRepository;
 import com.devthink.devthink_server.infra.CommentRepository;
-import com.devthink.devthink_server.infra.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 public class CommentHeartService {
     private final CommentHeartRepository commentHeartRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final CommentRepository commentRepository;
+    private final HeartCounter heartCounter;
+    private final HeartCheckService heartCheckService;
 
-    public CommentHeartService(CommentHeartRepository commentHeartRepository, UserRepository userRepository, CommentRepository commentRepository) {
+    public CommentHeartService(CommentHeartRepository commentHeartRepository, UserService userService,
+                               CommentRepository commentRepository, HeartCounter heartCounter,
+                               HeartCheckService heartCheckService) {
         this.commentHeartRepository = commentHeartRepository;
-        this.userRepository = userRepository;
+        this.userService = userService;
         this.commentRepository = commentRepository;
+        this.heartCounter = heartCounter;
+        this.heartCheckService = heartCheckService;
     }
 
     /**
      * 전달받은 댓글 식별자와 사용자 식별자로 좋아요를 생성합니다.
+     * (댓글, 사용자) 유니크 제약에 중복 판단을 맡겨 INSERT 한 번으로 처리합니다.
+     * 탈퇴한 사용자는 UserService 로 확인해 거부합니다.
      *
      * @param commentId 댓글 식별자
      * @param userId    사용자 식별자
      * @return 생성된 댓글 좋아요 객체
      */
     public CommentHeart createCommentHeart(Long commentId, Long userId) {
-        User user = findUser(userId);
-        Comment comment = findComment(commentId);
-
-        if (commentHeartRepository.existsByCommentIdAndUserId(commentId, userId)) {
+        User user = userService.getUser(userId);
+        CommentHeart commentHeart;
+        try {
+            commentHeart = commentHeartRepository.saveAndFlush(CommentHeart.builder()
+                    .user(user)
+                    .comment(commentRepository.getById(commentId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            findComment(commentId);
             throw new HeartAlreadyExistsException();
         }
-
-        comment.updateHeart(comment.getHeartCnt() + 1);
-        CommentHeart commentHeart = CommentHeart.builder().user(user).comment(comment).build();
-        return commentHeartRepository.save(commentHeart);
-    }
-
-    public void destroyCommentHeart(Long commentId) {
-        Comment comment = findComment(commentId);
-        CommentHeart commentHeart = commentHeartRepository.findByCommentId(commentId)
-                .orElseThrow(HeartNotFoundException::new);
-
-        comment.updateHeart(comment.getHeartCnt() - 1);
-        commentHeartRepository.deleteById(commentHeart.getId());
+        heartCounter.add(HeartTarget.COMMENT, commentId, 1);
+        heartCheckService.update(HeartTarget.COMMENT, userId, commentId, true);
+        return commentHeart;
     }
 
-    private User findUser(Long userId) {
-        return userRepository.findByIdAndDeletedIsFalse(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+    /**
+     * 사용자의 댓글 좋아요를 DELETE 한 번으로 삭제합니다.
+     *
+     * @param commentId 댓글 식별자
+     * @param userId    사용자 식별자
+     */
+    public void destroyCommentHeart(Long commentId, Long userId) {
+        userService.getUser(userId);
+        if (commentHeartRepository.deleteByCommentIdAndUserId(commentId, userId) == 0) {
+            findComment(commentId);
+            throw new HeartNotFoundException();
+        }
+        heartCounter.add(HeartTarget.COMMENT, commentId, -1);
+        heartCheckService.update(HeartTarget.COMMENT, userId, commentId, false);
     }
 
     private Comment findComment(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException(commentId));
     }
+
+    /**
+     * 전달된 댓글 중 사용자가 좋아요한 댓글의 식별자를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param commentIds 확인할 댓글 식별자
+     * @return 좋아요한 댓글 식별자
+     */
+    public Set<Long> getHeartedCommentIds(Long userId, Collection<Long> commentIds) {
+        return heartCheckService.getHeartedIds(HeartTarget.COMMENT, userId, commentIds);
+    }
 }
@@ -21,14 +21,17 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final ReviewRepository reviewRepository;
+    private final HeartCounter heartCounter;
 
 
     public CommentService(CommentRepository commentRepository,
                           PostRepository postRepository,
-                          ReviewRepository reviewRepository) {
+                          ReviewRepository reviewRepository,
+                          HeartCounter heartCounter) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.reviewRepository = reviewRepository;
+        this.heartCounter = heartCounter;
     }
 
     /**
@@ -145,7 +148,7 @@ public class CommentService {
     public CommentResponseData updateComment(Long commentId, String content) {
         Comment comment = getComment(commentId);
         comment.setContent(content);
-        return commentRepository.save(comment).toCommentResponseData();
+        return heartCounter.merge(commentRepository.save(comment).toCommentResponseData());
     }
 
     /**
@@ -160,6 +163,7 @@ public class CommentService {
 
     /**
      * entity List를 받아 dto List 데이터로 변환하여 반환합니다.
+     * 좋아요 수에는 아직 DB에 반영되지 않은 변경분을 더합니다.
      * @param comments entity List
      * @return 입력된 dto 데이터로 변환된 list
      */
@@ -167,7 +171,7 @@ public class CommentService {
         List<CommentResponseData> commentResponseData = new ArrayList<>();
 
         for (Comment comment : comments)
-            commentResponseData.add(comment.toCommentResponseData());
+            commentResponseData.add(heartCounter.merge(comment.toCommentResponseData()));
         return commentResponseData;
     }
 }
@@ -0,0 +1,154 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.HeartTarget;
+import com.devthink.devthink_server.infra.CommentHeartRepository;
+import com.devthink.devthink_server.infra.PostHeartRepository;
+import com.devthink.devthink_server.infra.ReplyHeartRepository;
+import com.devthink.devthink_server.infra.ReviewHeartRepository;
+import com.devthink.devthink_server.utils.ExpiringLruCache;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자가 여러 게시글, 댓글, 답글, 리뷰에 좋아요를 눌렀는지 한 번에 확인합니다.
+ * 사용자별로 확인한 식별자와 좋아요한 식별자를 비트맵으로 캐시하고, 처음 보는 식별자만 IN 쿼리 한 번으로 조회합니다.
+ * 캐시는 최근에 조회한 사용자 수를 기준으로 크기가 제한되며, 좋아요와 좋아요 취소 시 갱신됩니다.
+ * 다른 서버에서 반영된 좋아요와 취소는 알 수 없으므로, 사용자별 비트맵은 유효 시간이 지나면 버리고 다시 조회합니다.
+ */
+@Service
+public class HeartCheckService {
+    private static final int MAX_IN_SIZE = 1000;
+
+    private final PostHeartRepository postHeartRepository;
+    private final CommentHeartRepository commentHeartRepository;
+    private final ReplyHeartRepository replyHeartRepository;
+    private final ReviewHeartRepository reviewHeartRepository;
+    private final Map<HeartTarget, ExpiringLruCache<Long, HeartedIds>> caches = new EnumMap<>(HeartTarget.class);
+
+    public HeartCheckService(PostHeartRepository postHeartRepository, CommentHeartRepository commentHeartRepository,
+                             ReplyHeartRepository replyHeartRepository, ReviewHeartRepository reviewHeartRepository,
+                             @Value("${heart.cache-max-users:10000}") int maxUsers,
+                             @Value("${heart.cache-ttl-seconds:60}") long ttlSeconds) {
+        this.postHeartRepository = postHeartRepository;
+        this.commentHeartRepository = commentHeartRepository;
+        this.replyHeartRepository = replyHeartRepository;
+        this.reviewHeartRepository = reviewHeartRepository;
+        for (HeartTarget target : HeartTarget.values()) {
+            caches.put(target, new ExpiringLruCache<>(maxUsers, TimeUnit.SECONDS.toMillis(ttlSeconds)));
+        }
+    }
+
+    /**
+     * 전달된 대상 중 사용자가 좋아요한 대상의 식별자를 반환합니다.
+     * @param target 대상 종류
+     * @param userId 사용자 식별자
+     * @param ids 확인할 대상 식별자
+     * @return Set<Long> 좋아요한 대상 식별자
+     */
+    public Set<Long> getHeartedIds(HeartTarget target, Long userId, Collection<Long> ids) {
+        HeartedIds heartedIds = caches.get(target).computeIfAbsent(userId, key -> new HeartedIds());
+        Set<Long> hearted = new HashSet<>();
+        List<Long> unknown = heartedIds.collect(ids, hearted);
+        for (int from = 0; from < unknown.size(); from += MAX_IN_SIZE) {
+            List<Long> chunk = unknown.subList(from, Math.min(from + MAX_IN_SIZE, unknown.size()));
+            List<Long> found = findHeartedIds(target, userId, chunk);
+            heartedIds.record(chunk, found);
+            hearted.addAll(found);
+        }
+        return hearted;
+    }
+
+    /**
+     * 사용자가 대상에 좋아요를 눌렀는지 확인합니다.
+     * @param target 대상 종류
+     * @param userId 사용자 식별자
+     * @param id 대상 식별자
+     * @return Boolean 좋아요 여부
+     */
+    public Boolean isHearted(HeartTarget target, Long userId, Long id) {
+        return getHeartedIds(target, userId, List.of(id)).contains(id);
+    }
+
+    /**
+     * 좋아요 또는 좋아요 취소가 반영된 뒤 캐시를 갱신합니다.
+     * @param target 대상 종류
+     * @param userId 사용자 식별자
+     * @param id 대상 식별자
+     * @param hearted 좋아요 여부
+     */
+    public void update(HeartTarget target, Long userId, Long id, boolean hearted) {
+        HeartedIds heartedIds = caches.get(target).get(userId);
+        if (heartedIds != null) {
+            heartedIds.set(id, hearted);
+        }
+    }
+
+    private List<Long> findHeartedIds(HeartTarget target, Long userId, Collection<Long> ids) {
+        switch (target) {
+            case POST:
+                return postHeartRepository.findHeartedPostIds(userId, ids);
+            case COMMENT:
+                return commentHeartRepository.findHeartedCommentIds(userId, ids);
+            case REPLY:
+                return replyHeartRepository.findHeartedReplyIds(userId, ids);
+            case REVIEW:
+                return reviewHeartRepository.findHeartedReviewIds(userId, ids);
+            default:
+                throw new IllegalArgumentException(target.name());
+        }
+    }
+
+    /**
+     * 한 사용자의 확인한 식별자(checked)와 좋아요한 식별자(hearted) 비트맵입니다.
+     * 식별자가 커도 듬성듬성하면 메모리를 거의 쓰지 않도록 압축 비트맵(RoaringBitmap)을 사용합니다.
+     * int 범위를 넘는 식별자는 캐시하지 않고 매번 조회합니다.
+     */
+    private static class HeartedIds {
+        private final RoaringBitmap checked = new RoaringBitmap();
+        private final RoaringBitmap hearted = new RoaringBitmap();
+
+        synchronized List<Long> collect(Collection<Long> ids, Set<Long> result) {
+            List<Long> unknown = new ArrayList<>();
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+                if (!cacheable(id) || !checked.contains(id.intValue())) {
+                    unknown.add(id);
+                } else if (hearted.contains(id.intValue())) {
+                    result.add(id);
+                }
+            }
+            return unknown;
+        }
+
+        // 조회하는 동안 좋아요/취소로 먼저 갱신된 식별자는 덮어쓰지 않습니다.
+        synchronized void record(Collection<Long> ids, Collection<Long> found) {
+            Set<Long> foundIds = new HashSet<>(found);
+            for (Long id : ids) {
+                if (cacheable(id) && !checked.contains(id.intValue())) {
+                    set(id, foundIds.contains(id));
+                }
+            }
+        }
+
+        synchronized void set(Long id, boolean value) {
+            if (cacheable(id)) {
+                checked.add(id.intValue());
+                if (value) {
+                    hearted.add(id.intValue());
+                } else {
+                    hearted.remove(id.intValue());
+                }
+            }
+        }
+
+        private static boolean cacheable(Long id) {
+            return id != null && id >= 0 && id <= Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.HeartTarget;
+import com.devthink.devthink_server.dto.CommentDetailResponseData;
+import com.devthink.devthink_server.dto.CommentResponseData;
+import com.devthink.devthink_server.dto.ReplyResponseData;
+import com.devthink.devthink_server.infra.CommentRepository;
+import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.ReplyRepository;
+import com.devthink.devthink_server.infra.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글, 댓글, 답글, 리뷰의 좋아요 수 변경분을 메모리에 모았다가 주기적으로 DB에 반영합니다.
+ * 같은 대상에 좋아요가 몰려도 행을 읽고 쓰지 않고 LongAdder 에 더하기만 하므로 갱신이 유실되거나 행 잠금을 기다리지 않습니다.
+ * 반영 전의 변경분은 merge 로 조회 결과에 더해 보여줍니다.
+ */
+@Slf4j
+@Component
+public class HeartCounter {
+    private final Map<HeartTarget, Deltas> deltas = new EnumMap<>(HeartTarget.class);
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public HeartCounter(PostRepository postRepository, CommentRepository commentRepository,
+                        ReplyRepository replyRepository, ReviewRepository reviewRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (HeartTarget target : HeartTarget.values()) {
+            deltas.put(target, new Deltas());
+        }
+    }
+
+    /**
+     * 대상의 좋아요 수 변경분을 더합니다.
+     * @param target 대상 종류
+     * @param id 대상 식별자
+     * @param delta 변경분 (좋아요 1, 좋아요 취소 -1)
+     */
+    public void add(HeartTarget target, Long id, int delta) {
+        deltas.get(target).current.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 변경분을 더한 좋아요 수를 반환합니다.
+     * @param target 대상 종류
+     * @param id 대상 식별자
+     * @param stored DB에 저장된 좋아요 수
+     * @return 변경분을 더한 좋아요 수
+     */
+    public Integer merge(HeartTarget target, Long id, Integer stored) {
+        Deltas targetDeltas = deltas.get(target);
+        long pending = sum(targetDeltas.current, id) + sum(targetDeltas.flushed, id);
+        return (int) ((stored == null ? 0 : stored) + pending);
+    }
+
+    /**
+     * 댓글의 좋아요 수에 아직 DB에 반영되지 않은 변경분을 더합니다.
+     * @param comment 댓글 조회 결과
+     * @return 좋아요 수가 보정된 댓글 조회 결과
+     */
+    public CommentResponseData merge(CommentResponseData comment) {
+        comment.setHeartCnt(merge(HeartTarget.COMMENT, comment.getCommentId(), comment.getHeartCnt()));
+        return comment;
+    }
+
+    /**
+     * 답글의 좋아요 수에 아직 DB에 반영되지 않은 변경분을 더합니다.
+     * @param reply 답글 조회 결과
+     * @return 좋아요 수가 보정된 답글 조회 결과
+     */
+    public ReplyResponseData merge(ReplyResponseData reply) {
+        reply.setHeartCnt(merge(HeartTarget.REPLY, reply.getReplyId(), reply.getHeartCnt()));
+        return reply;
+    }
+
+    /**
+     * 게시글, 리뷰 상세의 댓글과 답글 좋아요 수에 아직 DB에 반영되지 않은 변경분을 더합니다.
+     * @param comments 답글이 포함된 댓글 목록
+     */
+    public void mergeComments(List<CommentDetailResponseData> comments) {
+        for (CommentDetailResponseData comment : comments) {
+            merge(comment.getComment());
+            comment.getReplys().forEach(this::merge);
+        }
+    }
+
+    /**
+     * 모아 둔 변경분을 DB에 반영합니다.
+     * 변경분 맵을 새 맵으로 교체한 뒤 교체된 맵을 비우며, 교체 직전에 맵을 잡은 요청이 남긴 변경분은
+     * 다음 반영 때 한 번 더 비워 유실되지 않도록 합니다.
+     * 같은 변경분을 가진 대상끼리 묶어 "heart_cnt = heart_cnt + ?" 업데이트 한 번으로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${heart.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        for (HeartTarget target : HeartTarget.values()) {
+            Deltas targetDeltas = deltas.get(target);
+            Map<Long, LongAdder> stale = targetDeltas.flushed;
+            targetDeltas.flushed = targetDeltas.current;
+            targetDeltas.current = new ConcurrentHashMap<>();
+
+            // 같은 대상이 두 맵에 모두 있으면 한 번의 업데이트에 두 번 들어가지 않도록 대상별로 먼저 합칩니다.
+            Map<Long, Long> drained = new HashMap<>();
+            drain(stale, drained);
+            drain(targetDeltas.flushed, drained);
+            Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+            drained.forEach((id, delta) -> {
+                if (delta != 0) {
+                    idsByDelta.computeIfAbsent(delta.intValue(), key -> new ArrayList<>()).add(id);
+                }
+            });
+            if (idsByDelta.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        idsByDelta.forEach((delta, ids) -> apply(target, ids, delta)));
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} heart counts, retrying on next flush", target, e);
+                idsByDelta.forEach((delta, ids) -> ids.forEach(id -> add(target, id, delta)));
+            }
+        }
+    }
+
+    private void drain(Map<Long, LongAdder> adders, Map<Long, Long> drained) {
+        adders.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.merge(id, delta, Long::sum);
+            }
+        });
+    }
+
+    private void apply(HeartTarget target, List<Long> ids, int delta) {
+        switch (target) {
+            case POST:
+                postRepository.addHeartCnt(ids, delta);
+                break;
+            case COMMENT:
+                commentRepository.addHeartCnt(ids, delta);
+                break;
+            case REPLY:
+                replyRepository.addHeartCnt(ids, delta);
+                break;
+            case REVIEW:
+                reviewRepository.addHeartCnt(ids, delta);
+                break;
+        }
+    }
+
+    private long sum(Map<Long, LongAdder> adders, Long id) {
+        LongAdder adder = adders.get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static class Deltas {
+        private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<>();
+        private volatile Map<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+    }
+}
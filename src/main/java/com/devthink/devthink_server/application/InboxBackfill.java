@@ -0,0 +1,82 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Inbox;
+import com.devthink.devthink_server.domain.Letter;
+import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.infra.InboxRepository;
+import com.devthink.devthink_server.infra.LetterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쪽지방 목록 테이블이 비어 있으면 기존 쪽지로부터 한 번 채웁니다.
+ * 방 별 마지막 쪽지와 안 읽은 쪽지 수를 각각 한 번의 집계 쿼리로 가져와 보낸 사람, 받는 사람의 목록 행을 만듭니다.
+ */
+@Slf4j
+@Component
+public class InboxBackfill {
+
+    private final LetterRepository letterRepository;
+    private final InboxRepository inboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public InboxBackfill(LetterRepository letterRepository, InboxRepository inboxRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.letterRepository = letterRepository;
+        this.inboxRepository = inboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시 쪽지방 목록이 비어 있으면 채웁니다.
+     * @return 만들어진 목록 행 수
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        Integer created = transactionTemplate.execute(status -> {
+            if (inboxRepository.count() > 0) {
+                return 0;
+            }
+            Map<String, Long> unreadCounts = new HashMap<>();
+            letterRepository.countUnreadByRoom().forEach(count ->
+                    unreadCounts.put(key(count.getUserId(), count.getRoomId()), count.getUnreadCnt()));
+
+            List<Inbox> inboxes = new ArrayList<>();
+            for (Letter letter : letterRepository.findLastLetters()) {
+                inboxes.add(toInbox(letter, true, unreadCounts));
+                if (!letter.getSender().getId().equals(letter.getTarget().getId())) {
+                    inboxes.add(toInbox(letter, false, unreadCounts));
+                }
+            }
+            inboxRepository.saveAll(inboxes);
+            return inboxes.size();
+        });
+        if (created != null && created > 0) {
+            log.info("Backfilled {} inbox rows from letters", created);
+        }
+        return created == null ? 0 : created;
+    }
+
+    private static Inbox toInbox(Letter letter, boolean forSender, Map<String, Long> unreadCounts) {
+        User user = forSender ? letter.getSender() : letter.getTarget();
+        User otherUser = forSender ? letter.getTarget() : letter.getSender();
+        long unread = unreadCounts.getOrDefault(key(user.getId(), letter.getRoom().getRoomId()), 0L);
+        return Inbox.of(letter, user, otherUser, unread);
+    }
+
+    private static String key(Long userId, Long roomId) {
+        return userId + ":" + roomId;
+    }
+}
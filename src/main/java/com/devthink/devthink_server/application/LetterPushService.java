@@ -0,0 +1,156 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.utils.ExpiringLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 쪽지와 안 읽은 쪽지 수를 구독 중인 유저에게 SSE로 전달합니다.
+ * 유저마다 여러 기기가 구독할 수 있으며, 쪽지 전송/읽음 처리 트랜잭션이 커밋된 뒤에만 전달합니다.
+ * 안 읽은 쪽지 수는 메모리의 카운터에서 가져오므로 알림 전송은 DB를 조회하지 않고, 클라이언트는 목록을 주기적으로 다시 조회하지 않아도 됩니다.
+ * 브라우저의 EventSource 는 Authorization 헤더를 보낼 수 없으므로, 로그인한 유저에게 짧은 시간 동안 한 번만 쓸 수 있는 구독 토큰을 발급하고
+ * 구독 요청의 쿼리 파라미터로 받습니다. 구독 토큰은 이 서버의 메모리에만 있으므로 발급받은 서버로 구독해야 합니다.
+ */
+@Slf4j
+@Service
+public class LetterPushService {
+    static final String LETTER_EVENT = "letter";
+    static final String UNREAD_EVENT = "unread";
+    private static final int MAX_SUBSCRIBE_TOKENS = 100_000;
+    private static final int SUBSCRIBE_TOKEN_BYTES = 32;
+
+    private final UnreadLetterCounter unreadLetterCounter;
+    private final long timeout;
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // 구독 토큰 -> 유저 아이디
+    private final ExpiringLruCache<String, Long> subscribeTokens;
+    private final SecureRandom random = new SecureRandom();
+
+    public LetterPushService(UnreadLetterCounter unreadLetterCounter,
+                             @Value("${letter.sse-timeout-ms:1800000}") long timeout,
+                             @Value("${letter.subscribe-token-ttl-seconds:30}") long subscribeTokenTtlSeconds) {
+        this.unreadLetterCounter = unreadLetterCounter;
+        this.timeout = timeout;
+        this.subscribeTokens = new ExpiringLruCache<>(MAX_SUBSCRIBE_TOKENS,
+                TimeUnit.SECONDS.toMillis(subscribeTokenTtlSeconds));
+    }
+
+    /**
+     * 구독 요청에 쓸 일회용 토큰을 발급합니다.
+     * @param userId 유저 아이디
+     * @return String 구독 토큰
+     */
+    public String issueSubscribeToken(Long userId) {
+        byte[] bytes = new byte[SUBSCRIBE_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        subscribeTokens.put(token, userId);
+        return token;
+    }
+
+    /**
+     * 구독 토큰을 사용하고 토큰을 발급받은 유저 아이디를 반환합니다. 사용한 토큰은 다시 쓸 수 없습니다.
+     * @param token 구독 토큰
+     * @return Long 유저 아이디. 없거나 만료되었거나 이미 사용한 토큰이면 null
+     */
+    public Long redeemSubscribeToken(String token) {
+        return subscribeTokens.remove(token);
+    }
+
+    /**
+     * 유저의 구독을 등록하고 현재 안 읽은 쪽지 수를 전달합니다.
+     * @param userId 유저 아이디
+     * @return SseEmitter 유저의 이벤트 스트림
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        emitters.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+        send(userId, emitter, UNREAD_EVENT, unreadLetterCounter.get(userId));
+        return emitter;
+    }
+
+    /**
+     * 받는 사람에게 새 쪽지와 안 읽은 쪽지 수를, 보낸 사람의 다른 기기에 보낸 쪽지를 전달합니다.
+     * @param event 쪽지 전송 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void letterSent(LetterSentEvent event) {
+        if (isSubscribed(event.getTargetId())) {
+            sendAll(event.getTargetId(), LETTER_EVENT, event.getLetter());
+            sendAll(event.getTargetId(), UNREAD_EVENT, unreadLetterCounter.get(event.getTargetId()));
+        }
+        if (!event.getSenderId().equals(event.getTargetId()) && isSubscribed(event.getSenderId())) {
+            sendAll(event.getSenderId(), LETTER_EVENT, event.getLetter());
+        }
+    }
+
+    /**
+     * 쪽지를 읽은 유저의 모든 기기에 줄어든 안 읽은 쪽지 수를 전달합니다.
+     * @param event 읽음 처리 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void lettersRead(LettersReadEvent event) {
+        if (isSubscribed(event.getUserId())) {
+            sendAll(event.getUserId(), UNREAD_EVENT, unreadLetterCounter.get(event.getUserId()));
+        }
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${letter.sse-heartbeat-ms:30000}")
+    public void heartbeat() {
+        emitters.forEach((userId, list) -> list.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }));
+    }
+
+    boolean isSubscribed(Long userId) {
+        List<SseEmitter> list = emitters.get(userId);
+        return list != null && !list.isEmpty();
+    }
+
+    private void sendAll(Long userId, String name, Object data) {
+        List<SseEmitter> list = emitters.get(userId);
+        if (list != null) {
+            list.forEach(emitter -> send(userId, emitter, name, data));
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE subscription of user {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.dto.LetterResultData;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쪽지가 전송되었음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 받는 사람에게 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LetterSentEvent {
+    private final Long senderId;
+    private final Long targetId;
+    private final LetterResultData letter;
+}
@@ -1,15 +1,22 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.Inbox;
 import com.devthink.devthink_server.domain.Letter;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.domain.UserRoom;
+import com.devthink.devthink_server.dto.LetterHistoryData;
 import com.devthink.devthink_server.dto.LetterResultData;
 import com.devthink.devthink_server.dto.LetterSendData;
+import com.devthink.devthink_server.dto.LetterUnreadData;
 import com.devthink.devthink_server.dto.LetterListData;
 import com.devthink.devthink_server.errors.LetterUserNotFoundException;
+import com.devthink.devthink_server.infra.InboxRepository;
 import com.devthink.devthink_server.infra.LetterRepository;
 import com.devthink.devthink_server.infra.UserRepository;
+import com.devthink.devthink_server.infra.UserRoomRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -19,13 +26,27 @@ import java.util.stream.Collectors;
 @Transactional
 @Service
 public class LetterService {
+    private static final int MAX_HISTORY_SIZE = 100;
 
     private final LetterRepository letterRepository;
     private final UserRepository userRepository;
+    private final InboxRepository inboxRepository;
+    private final UserRoomRepository userRoomRepository;
+    private final UnreadLetterCounter unreadLetterCounter;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LetterService(LetterRepository letterRepository, UserRepository userRepository) {
+    public LetterService(LetterRepository letterRepository, UserRepository userRepository,
+                         InboxRepository inboxRepository, UserRoomRepository userRoomRepository,
+                         UnreadLetterCounter unreadLetterCounter, UserService userService,
+                         ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.letterRepository = letterRepository;
+        this.inboxRepository = inboxRepository;
+        this.userRoomRepository = userRoomRepository;
+        this.unreadLetterCounter = unreadLetterCounter;
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -47,6 +68,8 @@ public class LetterService {
      * @return Letter 생성된 메시지
      */
     public Letter createMessage(UserRoom userRoom, User sender, User target, LetterSendData data) {
+        // 두 사람이 동시에 첫 쪽지를 보내도 쪽지방 목록 행을 한 번만 만들도록, 같은 방의 쪽지는 방을 잠그고 차례로 처리합니다.
+        userRoomRepository.findForUpdate(userRoom.getId());
         Letter letter = letterRepository.save(
                 Letter.builder()
                         .content(data.getContent())
@@ -56,6 +79,13 @@ public class LetterService {
                         .room(userRoom)
                         .build()
         );
+        updateInbox(letter, sender, target);
+        if (!sender.getId().equals(target.getId())) {
+            updateInbox(letter, target, sender);
+        }
+        // 발신자 닉네임은 캐시된 프로필 스냅샷에서 가져와 발신자를 다시 조회하지 않습니다.
+        LetterResultData result = letter.toLetterResultData(userService.getProfile(sender.getId()));
+        eventPublisher.publishEvent(new LetterSentEvent(sender.getId(), target.getId(), result));
         return letter;
     }
 
@@ -65,66 +95,78 @@ public class LetterService {
      * @return List<LetterListData> 메시지 리스트
      */
     public List<LetterListData> getMessageList(User user) {
-        List<Letter> messageList = letterRepository.getMessageList(user.getId());
-
-        List<LetterListData> letterListData = messageList.stream()
-                .map(Letter::toLetterListData)
+        return inboxRepository.findInbox(user.getId()).stream()
+                .map(Inbox::toLetterListData)
                 .collect(Collectors.toList());
+    }
 
-        setMessageList(user, letterListData);
-        return letterListData;
+    /**
+     * 유저의 전체 안 읽은 쪽지 수를 DB를 거치지 않고 반환합니다.
+     * @param userId 유저 아이디
+     * @return LetterUnreadData 안 읽은 쪽지 수
+     */
+    public LetterUnreadData getUnreadCount(Long userId) {
+        return LetterUnreadData.builder()
+                .unreadCount(unreadLetterCounter.get(userId))
+                .build();
     }
 
     /**
-     * 전달 받은 유저의 방 메시지를 읽음 처리 합니다.
+     * 커서(before) 이전의 방 메시지를 최신순으로 size 개 반환합니다.
+     * 첫 페이지를 조회할 때 방의 메시지를 읽음 처리 하고, 한 건을 더 조회하여 이전 메시지가 있으면 마지막 메시지 id를 다음 커서로 전달합니다.
      * @param user 유저 정보
      * @param userRoom  유저의 방 번호
-     * @return List<LetterResultData> 채팅방의 메시지 정보
+     * @param before 이전 페이지의 마지막 메시지 아이디, 첫 페이지인 경우 null
+     * @param size 페이지 크기
+     * @return LetterHistoryData 채팅방의 메시지 정보와 다음 커서
      */
-    public List<LetterResultData> getMessage(User user, UserRoom userRoom) {
-        setReadCheck(user, userRoom);
+    public LetterHistoryData getMessage(User user, UserRoom userRoom, Long before, int size) {
+        if (before == null) {
+            setReadCheck(user, userRoom);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+        Long cursor = before == null ? Long.MAX_VALUE : before;
 
-        List<Letter> roomLists = letterRepository.getRoomLists(user.getId(), userRoom.getRoomId());
-        return roomLists.stream()
+        List<Letter> letters = letterRepository.findHistory(user.getId(), userRoom.getId(), cursor,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = letters.size() > pageSize;
+        List<LetterResultData> letterResultData = (hasNext ? letters.subList(0, pageSize) : letters).stream()
                 .map(Letter::toLetterResultData)
                 .collect(Collectors.toList());
+
+        return LetterHistoryData.builder()
+                .letters(letterResultData)
+                .nextCursor(hasNext ? letterResultData.get(pageSize - 1).getId() : null)
+                .build();
     }
 
     /**
-     * 해당 유저 방에 있는 메시지를 읽음 처리 합니다.
+     * 해당 유저 방에 있는 메시지를 한 번의 쿼리로 읽음 처리 합니다.
      * @param user 메시지를 읽는 유저
      * @param userRoom 유저가 읽은 메시지 방
+     * @return int 읽음 처리된 메시지 수
      */
-    public List<Letter> setReadCheck(User user, UserRoom userRoom) {
-        List<Letter> unReadLists = letterRepository.getUnReadLists(user.getId(), userRoom.getRoomId());
-        for (Letter unreadList : unReadLists) {
-            unreadList.setReadCheck(true);
+    public int setReadCheck(User user, UserRoom userRoom) {
+        int read = letterRepository.markRead(user.getId(), userRoom.getRoomId());
+        if (read > 0) {
+            inboxRepository.decreaseUnread(user.getId(), userRoom.getRoomId(), read);
+            eventPublisher.publishEvent(new LettersReadEvent(user.getId(), userRoom.getRoomId(), read));
         }
-        return unReadLists;
+        return read;
     }
 
     /**
-     * 상대방의 프로필과 닉네임을 설정합니다.
-     * @param user  전달받은 유저 정보
-     * @param letterListData  상대방 프로필, 닉네임을 설정할 메시지
+     * 쪽지방 목록의 마지막 쪽지와 안 읽은 쪽지 수를 갱신하고, 목록에 방이 없으면 새로 만듭니다.
+     * @param letter 새 쪽지
+     * @param user 목록의 주인
+     * @param otherUser 대화 상대
      */
-    private void setMessageList(User user, List<LetterListData> letterListData) {
-        for (LetterListData letter : letterListData) {
-            Long unread = letterRepository.countUnread(user.getId(), letter.getRoomId());
-            letter.setUnRead(unread);
-
-            String image, Nickname;
-            if (user.getId() == letter.getSenderId()) {
-                image = userRepository.findImageUrlById(letter.getTargetId());
-                Nickname = userRepository.findNicknameById(letter.getTargetId());
-                letter.setOtherId(letter.getTargetId());
-            } else {
-                image = userRepository.findImageUrlById(letter.getSenderId());
-                Nickname = userRepository.findNicknameById(letter.getSenderId());
-                letter.setOtherId(letter.getSenderId());
-            }
-            letter.setProfile(image);
-            letter.setOtherNick(Nickname);
+    private void updateInbox(Letter letter, User user, User otherUser) {
+        long unread = Inbox.isReceived(letter, user) ? 1L : 0L;
+        int updated = inboxRepository.updateLastLetter(user.getId(), letter.getRoom().getRoomId(), letter.getId(),
+                letter.getSender().getId(), letter.getContent(), letter.getCreateAt(), unread);
+        if (updated == 0) {
+            inboxRepository.save(Inbox.of(letter, user, otherUser, unread));
         }
     }
 }
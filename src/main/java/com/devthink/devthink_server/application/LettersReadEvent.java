@@ -0,0 +1,15 @@
+package com.devthink.devthink_server.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저가 방의 쪽지를 읽음 처리 했음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 유저의 다른 기기에 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LettersReadEvent {
+    private final Long userId;
+    private final Long roomId;
+    private final int read;
+}
@@ -0,0 +1,144 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.errors.LoginRateLimitException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 횟수를 이메일별, 클라이언트 IP별로 제한합니다. (슬라이딩 윈도우 카운터)
+ * 직전 윈도우의 시도 횟수를 지난 비율만큼 줄여 현재 윈도우의 횟수에 더하므로, 윈도우 경계에서 두 배로 시도하는 것을 막습니다.
+ * 사용자 조회와 비밀번호 해시 계산 전에 확인하므로, 제한을 넘은 시도는 DB 와 해시 스레드풀을 사용하지 않습니다.
+ * 키마다 잠금을 따로 가지므로 다른 키끼리는 기다리지 않고, 두 윈도우 동안 시도가 없는 키는 주기적으로 지웁니다.
+ * 허용, 거절 횟수는 JMX 로 확인할 수 있습니다. (spring.jmx.enabled=true)
+ */
+@Component
+@ManagedResource(objectName = "devthink:name=LoginRateLimiter")
+public class LoginRateLimiter {
+    private final int emailLimit;
+    private final int ipLimit;
+    private final long windowMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public LoginRateLimiter(@Value("${login.rate-limit.email-per-window:10}") int emailLimit,
+                            @Value("${login.rate-limit.ip-per-window:50}") int ipLimit,
+                            @Value("${login.rate-limit.window-seconds:60}") long windowSeconds) {
+        this.emailLimit = emailLimit;
+        this.ipLimit = ipLimit;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+    }
+
+    /**
+     * 로그인 시도를 기록하고, 이메일이나 IP 의 제한을 넘으면 LoginRateLimitException 을 던집니다.
+     * @param email 로그인 이메일
+     * @param ip 클라이언트 IP
+     */
+    public void check(String email, String ip) {
+        check(email, ip, System.currentTimeMillis());
+    }
+
+    void check(String email, String ip, long now) {
+        boolean permitted = tryAcquire("ip:" + ip, ipLimit, now)
+                && tryAcquire("email:" + normalize(email), emailLimit, now);
+        if (!permitted) {
+            rejected.increment();
+            throw new LoginRateLimitException();
+        }
+        allowed.increment();
+    }
+
+    /**
+     * 두 윈도우 동안 시도가 없는 키를 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${login.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        evictIdle(System.currentTimeMillis());
+    }
+
+    void evictIdle(long now) {
+        windows.values().removeIf(window -> window.retireIfIdle(now, windowMillis));
+    }
+
+    @ManagedAttribute(description = "허용한 로그인 시도 수")
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    @ManagedAttribute(description = "거절한 로그인 시도 수")
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @ManagedAttribute(description = "추적 중인 이메일, IP 수")
+    public int getTrackedKeys() {
+        return windows.size();
+    }
+
+    private boolean tryAcquire(String key, int limit, long now) {
+        while (true) {
+            Window window = windows.computeIfAbsent(key, k -> new Window(now));
+            synchronized (window) {
+                // 꺼낸 뒤 지워진 윈도우에 기록하면 시도가 사라지므로, 새 윈도우로 다시 시도합니다.
+                if (!window.retired) {
+                    return window.tryAcquire(now, windowMillis, limit);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Window {
+        private long start;
+        private int previous;
+        private int current;
+        private boolean retired;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private synchronized boolean tryAcquire(long now, long windowMillis, int limit) {
+            roll(now, windowMillis);
+            double previousWeight = 1 - (double) (now - start) / windowMillis;
+            if (previous * previousWeight + current >= limit) {
+                return false;
+            }
+            current++;
+            return true;
+        }
+
+        // 지울 윈도우는 잠금 안에서 표시하므로, 이미 꺼낸 요청도 표시를 보고 새 윈도우를 사용합니다.
+        private synchronized boolean retireIfIdle(long now, long windowMillis) {
+            if (now - start >= 2 * windowMillis) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long elapsed = now - start;
+            if (elapsed >= 2 * windowMillis) {
+                previous = 0;
+                current = 0;
+                start = now - elapsed % windowMillis;
+            } else if (elapsed >= windowMillis) {
+                previous = current;
+                current = 0;
+                start += windowMillis;
+            }
+        }
+    }
+}
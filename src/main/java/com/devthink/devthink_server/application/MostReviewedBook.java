@@ -0,0 +1,93 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.dto.BookResponseData;
+import com.devthink.devthink_server.infra.BookRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 리뷰 수가 가장 많은 책을 메모리에 유지합니다.
+ * 리뷰가 작성, 수정, 삭제되어 커밋될 때마다 해당 책과 현재 1위를 비교해 갱신하므로 조회는 DB를 거치지 않습니다.
+ * 1위 책의 리뷰 수가 줄어든 경우처럼 메모리만으로 1위를 알 수 없을 때는 다음 조회에서 한 번만 DB를 조회합니다.
+ */
+@Component
+public class MostReviewedBook {
+    private static final Top EMPTY = new Top(null, -1, null);
+
+    private final BookRepository bookRepository;
+    private volatile Top top;
+
+    public MostReviewedBook(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * 리뷰 수가 가장 많은 책을 반환합니다.
+     * @return BookResponseData, 책이 없는 경우 null
+     */
+    public BookResponseData get() {
+        Top current = top;
+        if (current == null) {
+            current = load();
+        }
+        return current.book;
+    }
+
+    /**
+     * 책의 리뷰 수 또는 평점이 바뀌었을 때 1위를 갱신합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 갱신하므로, 롤백된 변경이 1위로 남지 않습니다.
+     * @param book 변경된 책
+     */
+    public void changed(Book book) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(book);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(book);
+            }
+        });
+    }
+
+    private synchronized void apply(Book book) {
+        Top current = top;
+        if (current == null) {
+            return;
+        }
+        if (book.getId().equals(current.bookId)) {
+            // 1위 책의 리뷰 수가 줄었다면 다른 책이 1위일 수 있으므로 다음 조회에서 다시 불러옵니다.
+            top = book.getReviewCnt() < current.reviewCnt ? null : Top.of(book);
+        } else if (book.getReviewCnt() > current.reviewCnt) {
+            top = Top.of(book);
+        }
+    }
+
+    private synchronized Top load() {
+        if (top == null) {
+            top = bookRepository.findTopByOrderByReviewCntDesc()
+                    .map(Top::of)
+                    .orElse(EMPTY);
+        }
+        return top;
+    }
+
+    private static class Top {
+        private final Long bookId;
+        private final int reviewCnt;
+        private final BookResponseData book;
+
+        private Top(Long bookId, int reviewCnt, BookResponseData book) {
+            this.bookId = bookId;
+            this.reviewCnt = reviewCnt;
+            this.book = book;
+        }
+
+        private static Top of(Book book) {
+            return new Top(book.getId(), book.getReviewCnt(), book.toBookResponseData());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Post;
+import com.devthink.devthink_server.dto.UserProfileData;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 새로 작성되었음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 검색 색인과 베스트 게시글 순위에 추가됩니다.
+ * 커밋 뒤에는 작성자 프록시를 초기화할 수 없으므로 작성자 프로필을 함께 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCreatedEvent {
+    private final Post post;
+    private final UserProfileData author;
+}
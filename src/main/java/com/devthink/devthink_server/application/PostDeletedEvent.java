@@ -0,0 +1,13 @@
+package com.devthink.devthink_server.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 삭제되었음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 검색 색인과 베스트 게시글 순위에서 제거됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostDeletedEvent {
+    private final Long postId;
+}
@@ -1,77 +1,103 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Post;
 import com.devthink.devthink_server.domain.PostHeart;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.errors.HeartAlreadyExistsException;
 import com.devthink.devthink_server.errors.HeartNotFoundException;
 import com.devthink.devthink_server.errors.PostNotFoundException;
-import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.infra.PostHeartRepository;
 import com.devthink.devthink_server.infra.PostRepository;
-import com.devthink.devthink_server.infra.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 public class PostHeartService {
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final PostHeartRepository postHeartRepository;
     private final PostRepository postRepository;
+    private final HeartCheckService heartCheckService;
+    private final BestPostBoard bestPostBoard;
 
-    public PostHeartService(UserRepository userRepository, PostHeartRepository postHeartRepository, PostRepository postRepository) {
-        this.userRepository = userRepository;
+    public PostHeartService(UserService userService, PostHeartRepository postHeartRepository,
+                            PostRepository postRepository,
+                            HeartCheckService heartCheckService, BestPostBoard bestPostBoard) {
+        this.userService = userService;
         this.postHeartRepository = postHeartRepository;
         this.postRepository = postRepository;
+        this.heartCheckService = heartCheckService;
+        this.bestPostBoard = bestPostBoard;
     }
 
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인합니다.
+     * @param postId 게시글 식별자
+     * @param userId 사용자 식별자
+     * @return Boolean 좋아요 여부
+     */
     public Boolean checkPostHeart(Long postId, Long userId) {
-        findPost(postId);
-        findUser(userId);
-
-        if(postHeartRepository.findByPostIdAndUserId(postId, userId).isPresent()) {
-            return true;
-        } else{
-            return false;
-        }
-
+        return heartCheckService.isHearted(HeartTarget.POST, userId, postId);
     }
 
+    /**
+     * 게시글 좋아요를 추가합니다.
+     * (게시글, 사용자) 유니크 제약에 중복 판단을 맡겨 INSERT 한 번으로 처리하고,
+     * 제약 위반이 난 경우에만 게시글을 조회해 원인을 구분합니다.
+     * 탈퇴한 사용자는 UserService 로 확인해 거부하며, 최근에 확인한 사용자는 DB를 조회하지 않습니다.
+     * @param postId 게시글 식별자
+     * @param userId 사용자 식별자
+     * @return PostHeart 추가된 좋아요
+     */
     public PostHeart createPostHeart(Long postId, Long userId) {
-        Post post = findPost(postId);
-        User user = findUser(userId);
-
-        if(postHeartRepository.existsByPostIdAndUserId(postId, userId)) {
+        User user = userService.getUser(userId);
+        PostHeart postHeart;
+        try {
+            postHeart = postHeartRepository.saveAndFlush(PostHeart.builder()
+                    .user(user)
+                    .post(postRepository.getById(postId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            findPost(postId);
             throw new HeartAlreadyExistsException();
         }
-
-        post.updateHeart(post.getHeartCnt() + 1);
-        PostHeart postHeart = PostHeart.builder()
-                .user(user)
-                .post(post)
-                .build();
-        return postHeartRepository.save(postHeart);
+        // 변경분은 BestPostBoard 가 순위와 함께 반영합니다.
+        bestPostBoard.hearted(postId, 1);
+        heartCheckService.update(HeartTarget.POST, userId, postId, true);
+        return postHeart;
     }
 
     private Post findPost(Long postId) {
         return postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(postId));
     }
 
-    private User findUser(Long userId) {
-        return userRepository.findByIdAndDeletedIsFalse(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-    }
-
 
     /**
-     * 전달받은 좋아요 식별자를 찾아 삭제합니다.
+     * 사용자의 게시글 좋아요를 DELETE 한 번으로 삭제합니다.
+     * 삭제된 행이 없을 때만 게시글을 조회해 원인을 구분합니다.
      * @param postId 삭제하고자하는 게시글 식별자
+     * @param userId 사용자 식별자
      */
     public void destroyPostHeart(Long postId, Long userId) {
-        Post post = findPost(postId);
-        PostHeart postHeart = postHeartRepository.findByPostIdAndUserId(postId, userId)
-                .orElseThrow(() -> new HeartNotFoundException());
+        userService.getUser(userId);
+        if (postHeartRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            findPost(postId);
+            throw new HeartNotFoundException();
+        }
+        bestPostBoard.hearted(postId, -1);
+        heartCheckService.update(HeartTarget.POST, userId, postId, false);
+    }
 
-        post.updateHeart(post.getHeartCnt()-1);
-        postHeartRepository.deleteById(postHeart.getId());
+    /**
+     * 전달된 게시글 중 사용자가 좋아요한 게시글의 식별자를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param postIds 확인할 게시글 식별자
+     * @return 좋아요한 게시글 식별자
+     */
+    public Set<Long> getHeartedPostIds(Long userId, Collection<Long> postIds) {
+        return heartCheckService.getHeartedIds(HeartTarget.POST, userId, postIds);
     }
 }
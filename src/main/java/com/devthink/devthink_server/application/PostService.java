@@ -1,9 +1,12 @@
 package com.devthink.devthink_server.application;
 
 import com.devthink.devthink_server.domain.Category;
+import com.devthink.devthink_server.domain.Comment;
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Post;
 import com.devthink.devthink_server.domain.PostReport;
 import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.dto.PostFeedData;
 import com.devthink.devthink_server.dto.PostListData;
 import com.devthink.devthink_server.dto.PostRequestData;
 import com.devthink.devthink_server.dto.PostResponseData;
@@ -11,33 +14,56 @@ import com.devthink.devthink_server.errors.PostReportAlreadyRequestException;
 import com.devthink.devthink_server.errors.PostReportBadRequestException;
 import com.devthink.devthink_server.errors.UserNotMatchException;
 import com.devthink.devthink_server.errors.PostNotFoundException;
+import com.devthink.devthink_server.infra.CommentRepository;
 import com.devthink.devthink_server.infra.PostReportRepository;
 import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.PostSearchIndex;
+import com.devthink.devthink_server.utils.NgramIndex;
 import com.github.dozermapper.core.Mapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class PostService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PostRepository postRepository;
     private final PostReportRepository postReportRepository;
+    private final CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final HeartCounter heartCounter;
+    private final BestPostBoard bestPostBoard;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Mapper mapper;
 
-    public PostService(PostRepository postRepository, PostReportRepository postReportRepository, Mapper mapper) {
+    public PostService(PostRepository postRepository, PostReportRepository postReportRepository,
+                       CommentRepository commentRepository, PostSearchIndex postSearchIndex,
+                       HeartCounter heartCounter, BestPostBoard bestPostBoard, UserService userService,
+                       ApplicationEventPublisher eventPublisher, Mapper mapper) {
         this.postRepository = postRepository;
         this.postReportRepository = postReportRepository;
+        this.commentRepository = commentRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.heartCounter = heartCounter;
+        this.bestPostBoard = bestPostBoard;
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
         this.mapper = mapper;
     }
 
@@ -74,6 +100,8 @@ public class PostService {
                         .image(imageCheck)
                         .build()
         );
+        // 롤백된 게시글이 검색되거나 베스트 게시글에 오르지 않도록 커밋된 뒤에 반영합니다.
+        eventPublisher.publishEvent(new PostCreatedEvent(post, userService.getProfile(user.getId())));
         return post;
     }
 
@@ -86,15 +114,25 @@ public class PostService {
     }
 
     /**
-     * 게시글을 전체 반환합니다.
+     * 커서(afterId) 이후의 카테고리별 게시글을 최신순으로 size 개 반환합니다.
+     * 한 건을 더 조회하여 다음 페이지 존재 여부를 판단하고, 있으면 마지막 게시글 id를 다음 커서로 전달합니다.
      * @param categoryId 카테고리 아이디
-     * @return List<PostListData> 조회된 게시글
+     * @param afterId 이전 페이지의 마지막 게시글 아이디, 첫 페이지인 경우 null
+     * @param size 페이지 크기
+     * @return PostFeedData 조회된 게시글과 다음 커서
      */
-    public List<PostListData> getPosts(Long categoryId){
-        List<Post> postPage = postRepository.findByDeletedIsFalseOrderByIdDesc(categoryId);
-        return postPage.stream()
-                .map(Post::toPostListData)
-                .collect(Collectors.toList());
+    public PostFeedData getPosts(Long categoryId, Long afterId, int size){
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        Long cursor = afterId == null ? Long.MAX_VALUE : afterId;
+
+        List<PostListData> posts = postRepository.findFeed(categoryId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = posts.size() > pageSize;
+        List<PostListData> postListData = mergeHeartCnt(hasNext ? posts.subList(0, pageSize) : posts);
+
+        return PostFeedData.builder()
+                .posts(postListData)
+                .nextCursor(hasNext ? postListData.get(pageSize - 1).getId() : null)
+                .build();
     }
 
     /**
@@ -107,6 +145,24 @@ public class PostService {
                 .orElseThrow(() -> new PostNotFoundException(id));
     }
 
+    /**
+     * 게시글 상세 정보를 조회합니다.
+     * 게시글(작성자, 카테고리 포함)과 댓글(작성자, 답글, 답글 작성자 포함)을 각각 한 번의 쿼리로 가져옵니다.
+     * 게시글, 댓글, 답글의 좋아요 수에는 아직 DB에 반영되지 않은 변경분을 더합니다.
+     * @param id 찾고자 하는 게시글의 식별자
+     * @param checkHeart 사용자의 좋아요 여부
+     * @return PostResponseData 게시글 상세 정보, 찾지 못하면 에러 반환
+     */
+    public PostResponseData getPostDetail(Long id, Boolean checkHeart){
+        Post post = postRepository.findDetailById(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
+        List<Comment> comments = commentRepository.findAllWithReplysByPostId(id);
+        PostResponseData postResponseData = post.toPostResponseData(checkHeart, comments);
+        postResponseData.setHeartCnt(heartCounter.merge(HeartTarget.POST, id, postResponseData.getHeartCnt()));
+        heartCounter.mergeComments(postResponseData.getComments());
+        return postResponseData;
+    }
+
     /**
      * 게시글의 내용과 제목을 업데이트합니다.
      * @param post 게시글
@@ -116,6 +172,7 @@ public class PostService {
         // 만약 지우려는 유저 아이디와 게시글의 유저 아이디가 같다면
         if(user.getId() == post.getUser().getId()) {
             post.update(postRequestData.getSubTitle(), postRequestData.getTitle(), postRequestData.getContent());
+            eventPublisher.publishEvent(new PostUpdatedEvent(post));
         }
         // 만약 지우려는 유저 아이디와 게시글의 유저 아이디가 다르다면
         else {
@@ -136,6 +193,7 @@ public class PostService {
         // 만약 유저 아이디와 게시글의 유저 아이디가 같다면
         if(user.getId() == post.getUser().getId()) {
             post.setDeleted(true);
+            eventPublisher.publishEvent(new PostDeletedEvent(post.getId()));
         }
         // 다르다면
         else {
@@ -144,28 +202,51 @@ public class PostService {
     }
 
     /**
-     * 제목이 담긴 게시글을 반환합니다.
-     * @param keyword 찾는 제목
+     * 제목, 부제목, 내용에 검색어가 담긴 게시글을 관련도 순으로 반환합니다.
+     * 검색 색인에서 해당 페이지까지의 상위 게시글만 골라, 그 페이지의 게시글을 한 번의 쿼리로 가져옵니다.
+     * @param keyword 검색어
      * @param categoryId 카테고리 아이디
-     * @return List<PostResponseData> 게시글 정보
+     * @param pageable 페이지 정보
+     * @return Page<PostListData> 게시글 정보
      */
-    public List<Post> search(Long categoryId, String keyword){
-        List<Post> posts = postRepository.findByCategory_IdAndTitleContainingAndDeletedIsFalseOrderByIdDesc(categoryId, keyword);
-        return posts;
+    public Page<PostListData> search(Long categoryId, String keyword, Pageable pageable){
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        NgramIndex.Hits hits = postSearchIndex.search(categoryId, keyword, limit);
+        List<Long> postIds = hits.getIds();
+        List<Long> pageIds = postIds.subList((int) Math.min(pageable.getOffset(), postIds.size()), postIds.size());
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, hits.getTotal());
+        }
+
+        Map<Long, PostListData> rows = postRepository.findListDataByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PostListData::getId, Function.identity()));
+        List<PostListData> posts = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(mergeHeartCnt(posts), pageable, hits.getTotal());
     }
 
     /**
      * 카테고리의 베스트 게시글을 가져옵니다.
+     * 메모리에 유지되는 순위에서 바로 가져오며, 좋아요 수는 반영 전 변경분까지 포함합니다.
      * @param category 카테고리
-     * @return List<PostResponseData> 베스트 게시글 정보
+     * @return List<PostListData> 베스트 게시글 정보
      */
-    public List<Post> getBestPost(Category category){
-        LocalDateTime start = LocalDateTime.of(LocalDate.now().minusDays(1), LocalTime.of(0, 0, 0));
-        LocalDateTime end = LocalDateTime.now();
-        List<Post> bestPosts = postRepository.getBestPost(category.getId(), start, end, PageRequest.of(0,1, Sort.by(Sort.Direction.DESC, "heartCnt")));
-        return bestPosts;
+    public List<PostListData> getBestPost(Category category){
+        return bestPostBoard.getBestPosts(category.getId());
    }
 
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감분을 게시글 목록의 좋아요 수에 더합니다.
+     * @param posts 게시글 목록
+     * @return List<PostListData> 좋아요 수가 보정된 게시글 목록
+     */
+    private List<PostListData> mergeHeartCnt(List<PostListData> posts) {
+        posts.forEach(post -> post.setHeartCnt(heartCounter.merge(HeartTarget.POST, post.getId(), post.getHeartCnt())));
+        return posts;
+    }
+
     /**
      * 게시글을 신고합니다.
      * @param user 게시글 작성자
@@ -0,0 +1,14 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 수정되었음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 검색 색인과 베스트 게시글 순위를 갱신합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostUpdatedEvent {
+    private final Post post;
+}
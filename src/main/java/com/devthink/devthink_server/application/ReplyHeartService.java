@@ -1,40 +1,56 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Reply;
 import com.devthink.devthink_server.domain.ReplyHeart;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.errors.HeartAlreadyExistsException;
 import com.devthink.devthink_server.errors.HeartNotFoundException;
 import com.devthink.devthink_server.errors.ReplyNotFoundException;
-import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.infra.ReplyHeartRepository;
 import com.devthink.devthink_server.infra.ReplyRepository;
-import com.devthink.devthink_server.infra.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 public class ReplyHeartService {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ReplyRepository replyRepository;
     private final ReplyHeartRepository replyHeartRepository;
+    private final HeartCounter heartCounter;
+    private final HeartCheckService heartCheckService;
 
-    public ReplyHeartService(UserRepository userRepository, ReplyRepository replyRepository, ReplyHeartRepository replyHeartRepository) {
-        this.userRepository = userRepository;
+    public ReplyHeartService(UserService userService, ReplyRepository replyRepository,
+                             ReplyHeartRepository replyHeartRepository, HeartCounter heartCounter,
+                             HeartCheckService heartCheckService) {
+        this.userService = userService;
         this.replyRepository = replyRepository;
         this.replyHeartRepository = replyHeartRepository;
+        this.heartCounter = heartCounter;
+        this.heartCheckService = heartCheckService;
     }
 
     public ReplyHeart create(Long replyId, Long userId) {
-        Reply reply = findReply(replyId);
-        User user = findUser(userId);
-        
-        if(replyHeartRepository.existsByReplyIdAndUserId(replyId, userId)) {
+        // 탈퇴한 사용자는 UserService 로 확인해 거부합니다.
+        User user = userService.getUser(userId);
+        ReplyHeart replyHeart;
+        try {
+            replyHeart = replyHeartRepository.saveAndFlush(ReplyHeart.builder()
+                    .user(user)
+                    .reply(replyRepository.getById(replyId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // (답글, 사용자) 유니크 제약 위반이거나 답글이 없는 경우입니다.
+            findReply(replyId);
             throw new HeartAlreadyExistsException();
         }
-        reply.updateHeart(reply.getHeartCnt() + 1);
-        ReplyHeart replyHeart = ReplyHeart.builder().user(user).reply(reply).build();
-        return replyHeartRepository.save(replyHeart);
+        heartCounter.add(HeartTarget.REPLY, replyId, 1);
+        heartCheckService.update(HeartTarget.REPLY, userId, replyId, true);
+        return replyHeart;
     }
 
     private Reply findReply(Long replyId) {
@@ -42,17 +58,23 @@ public class ReplyHeartService {
                 .orElseThrow(() -> new ReplyNotFoundException(replyId));
     }
 
-    private User findUser(Long userId) {
-        return userRepository.findByIdAndDeletedIsFalse(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-    }
-
     public void destroy(Long replyId, Long userId) {
-        Reply reply = findReply(replyId);
-        ReplyHeart replyHeart = replyHeartRepository.findByReplyIdAndUserId(replyId, userId)
-                .orElseThrow(() -> new HeartNotFoundException());
+        userService.getUser(userId);
+        if (replyHeartRepository.deleteByReplyIdAndUserId(replyId, userId) == 0) {
+            findReply(replyId);
+            throw new HeartNotFoundException();
+        }
+        heartCounter.add(HeartTarget.REPLY, replyId, -1);
+        heartCheckService.update(HeartTarget.REPLY, userId, replyId, false);
+    }
 
-        reply.updateHeart(reply.getHeartCnt() - 1);
-        replyHeartRepository.deleteById(replyHeart.getId());
+    /**
+     * 전달된 답글 중 사용자가 좋아요한 답글의 식별자를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param replyIds 확인할 답글 식별자
+     * @return 좋아요한 답글 식별자
+     */
+    public Set<Long> getHeartedReplyIds(Long userId, Collection<Long> replyIds) {
+        return heartCheckService.getHeartedIds(HeartTarget.REPLY, userId, replyIds);
     }
 }
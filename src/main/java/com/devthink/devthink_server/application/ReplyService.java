@@ -22,13 +22,16 @@ public class ReplyService {
     private final ReplyRepository replyRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final HeartCounter heartCounter;
 
     public ReplyService(ReplyRepository replyRepository,
                         CommentRepository commentRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        HeartCounter heartCounter) {
         this.replyRepository = replyRepository;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
+        this.heartCounter = heartCounter;
     }
 
     /**
@@ -103,7 +106,7 @@ public class ReplyService {
     public ReplyResponseData updateReply(Long replyId, String content) {
         Reply reply = getReply(replyId);
         reply.setContent(content);
-        return replyRepository.save(reply).toReplyResponseData();
+        return heartCounter.merge(replyRepository.save(reply).toReplyResponseData());
     }
 
     /**
@@ -117,6 +120,7 @@ public class ReplyService {
 
     /**
      * entity List를 받아 dto List 데이터로 변환하여 반환합니다.
+     * 좋아요 수에는 아직 DB에 반영되지 않은 변경분을 더합니다.
      * @param replies entity List
      * @return 입력된 dto 데이터로 변환된 list
      */
@@ -124,7 +128,7 @@ public class ReplyService {
         List<ReplyResponseData> replyResponseData = new ArrayList<>();
 
         for (Reply reply : replies)
-            replyResponseData.add(reply.toReplyResponseData());
+            replyResponseData.add(heartCounter.merge(reply.toReplyResponseData()));
         return replyResponseData;
     }
 
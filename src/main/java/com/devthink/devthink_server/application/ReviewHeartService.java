@@ -1,69 +1,93 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Review;
 import com.devthink.devthink_server.domain.ReviewHeart;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.errors.HeartAlreadyExistsException;
 import com.devthink.devthink_server.errors.HeartNotFoundException;
 import com.devthink.devthink_server.errors.ReviewNotFoundException;
-import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.infra.ReviewHeartRepository;
 import com.devthink.devthink_server.infra.ReviewRepository;
-import com.devthink.devthink_server.infra.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 public class ReviewHeartService {
 
     private final ReviewHeartRepository reviewHeartRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ReviewRepository reviewRepository;
+    private final HeartCounter heartCounter;
+    private final HeartCheckService heartCheckService;
 
-    public ReviewHeartService(ReviewHeartRepository reviewHeartRepository, UserRepository userRepository, ReviewRepository reviewRepository) {
+    public ReviewHeartService(ReviewHeartRepository reviewHeartRepository, UserService userService,
+                              ReviewRepository reviewRepository, HeartCounter heartCounter,
+                              HeartCheckService heartCheckService) {
         this.reviewHeartRepository = reviewHeartRepository;
-        this.userRepository = userRepository;
+        this.userService = userService;
         this.reviewRepository = reviewRepository;
+        this.heartCounter = heartCounter;
+        this.heartCheckService = heartCheckService;
     }
 
     /**
      * 전달받은 리뷰 객체와 사용자 객체로 좋아요를 생성합니다.
+     * (리뷰, 사용자) 유니크 제약에 중복 판단을 맡겨 INSERT 한 번으로 처리합니다.
+     * 탈퇴한 사용자는 UserService 로 확인해 거부합니다.
      *
      * @param reviewId 리뷰 식별자
      * @param userId   사용자 식별자
      * @return 생성된 댓글 좋아요 객체
      */
     public ReviewHeart createReviewHeart(Long reviewId, Long userId) {
-        Review review = findReview(reviewId);
-        User user = findUser(userId);
-
-        if(reviewHeartRepository.existsByReviewIdAndUserId(reviewId, userId)) {
+        User user = userService.getUser(userId);
+        ReviewHeart reviewHeart;
+        try {
+            reviewHeart = reviewHeartRepository.saveAndFlush(ReviewHeart.builder()
+                    .user(user)
+                    .review(reviewRepository.getById(reviewId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            findReview(reviewId);
             throw new HeartAlreadyExistsException();
         }
-
-        review.updateHeart(review.getHeartCnt() + 1);
-        ReviewHeart reviewHeart = ReviewHeart.builder()
-                .user(user)
-                .review(review)
-                .build();
-        return reviewHeartRepository.save(reviewHeart);
-    }
-
-    public void destroyReviewHeart(Long reviewId) {
-        Review review = findReview(reviewId);
-        ReviewHeart reviewHeart = reviewHeartRepository.findByReviewId(reviewId)
-                .orElseThrow(HeartNotFoundException::new);
-
-        review.updateHeart(review.getHeartCnt() - 1);
-        reviewHeartRepository.deleteById(reviewHeart.getId());
+        heartCounter.add(HeartTarget.REVIEW, reviewId, 1);
+        heartCheckService.update(HeartTarget.REVIEW, userId, reviewId, true);
+        return reviewHeart;
     }
 
-    private User findUser(Long userId) {
-        return userRepository.findByIdAndDeletedIsFalse(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+    /**
+     * 사용자의 리뷰 좋아요를 DELETE 한 번으로 삭제합니다.
+     *
+     * @param reviewId 리뷰 식별자
+     * @param userId   사용자 식별자
+     */
+    public void destroyReviewHeart(Long reviewId, Long userId) {
+        userService.getUser(userId);
+        if (reviewHeartRepository.deleteByReviewIdAndUserId(reviewId, userId) == 0) {
+            findReview(reviewId);
+            throw new HeartNotFoundException();
+        }
+        heartCounter.add(HeartTarget.REVIEW, reviewId, -1);
+        heartCheckService.update(HeartTarget.REVIEW, userId, reviewId, false);
     }
 
     private Review findReview(Long reviewId) {
         return reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(reviewId));
     }
+
+    /**
+     * 전달된 리뷰 중 사용자가 좋아요한 리뷰의 식별자를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param reviewIds 확인할 리뷰 식별자
+     * @return 좋아요한 리뷰 식별자
+     */
+    public Set<Long> getHeartedReviewIds(Long userId, Collection<Long> reviewIds) {
+        return heartCheckService.getHeartedIds(HeartTarget.REVIEW, userId, reviewIds);
+    }
 }
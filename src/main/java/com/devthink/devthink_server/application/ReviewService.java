@@ -1,6 +1,7 @@
 package com.devthink.devthink_server.application;
 
 import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Review;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.dto.ReviewDetailResponseData;
@@ -16,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -23,6 +26,9 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final BookRepository bookRepository;
+    private final HeartCounter heartCounter;
+    private final WeeklyBestBooks weeklyBestBooks;
+    private final MostReviewedBook mostReviewedBook;
 
     /**
      * 전달된 값으로 리뷰를 생성하며, 유저에게 포인트가 적립됩니다.
@@ -32,6 +38,8 @@ public class ReviewService {
      */
     @Transactional
     public Review createReview(User user, Book book, ReviewRequestData reviewRequestData) {
+        // 동시에 작성된 리뷰의 증감분이 서로 덮어쓰지 않도록 책을 잠그고 최신 값으로 다시 읽습니다.
+        bookRepository.lockForUpdate(book);
         if (reviewRepository.existsByBookIdAndUserIdAndDeletedIsFalse(book.getId(), user.getId())) {
             /*
             주어진 책에 대해 주어진 사용자가 이미리뷰를 작성했는지 확인합니다.
@@ -49,9 +57,9 @@ public class ReviewService {
                         .point(reviewRequestData.getPoint())
                         .build()
         );
-        // 책에 리뷰를 추가하고 평점을 다시 계산합니다.
+        // 책에 리뷰를 추가하고, 리뷰 수와 별점 합계로 평점을 다시 계산합니다.
         review.getBook().addReview(review);
-        review.getBook().setScoreAvg(bookRepository.calcScoreAvg(book.getId()));
+        mostReviewedBook.changed(review.getBook());
         user.upPoint(reviewRequestData.getPoint()); // 유저에게 포인트를 적립합니다.
         return review;
     }
@@ -64,7 +72,10 @@ public class ReviewService {
      */
     public ReviewDetailResponseData getReviewDetailById(Long id) {
         Review review = getReviewById(id);
-        return review.toReviewDetailResponseData();
+        ReviewDetailResponseData reviewDetailResponseData = review.toReviewDetailResponseData();
+        mergeHeartCnt(reviewDetailResponseData.getReview());
+        heartCounter.mergeComments(reviewDetailResponseData.getComments());
+        return reviewDetailResponseData;
     }
 
     /**
@@ -79,9 +90,24 @@ public class ReviewService {
     public ReviewResponseData update(Long reviewId, Long userId, ReviewModificationData reviewModificationData) {
         Review review = getReviewById(reviewId);
         checkMatchUser(review, userId); // 리뷰 작성자와 수정하려는 사용자가 같은지 확인합니다.
+        bookRepository.lockForUpdate(review.getBook());
+        BigDecimal oldScore = review.getScore();
         review.update(reviewModificationData);
-        review.getBook().setScoreAvg(bookRepository.calcScoreAvg(review.getBook().getId())); // 평점을 다시 계산합니다.
-        return review.toReviewResponseData();
+        review.getBook().changeScore(oldScore, review.getScore()); // 별점 변경분으로 평점을 다시 계산합니다.
+        mostReviewedBook.changed(review.getBook());
+        return mergeHeartCnt(review.toReviewResponseData());
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감분을 리뷰의 좋아요 수에 더합니다.
+     *
+     * @param reviewResponseData (리뷰 조회 결과)
+     * @return 좋아요 수가 보정된 리뷰 조회 결과
+     */
+    private ReviewResponseData mergeHeartCnt(ReviewResponseData reviewResponseData) {
+        reviewResponseData.setHeartCnt(
+                heartCounter.merge(HeartTarget.REVIEW, reviewResponseData.getId(), reviewResponseData.getHeartCnt()));
+        return reviewResponseData;
     }
 
     /**
@@ -96,10 +122,12 @@ public class ReviewService {
     public void deleteReview(Long id, Long userId) {
         Review review = getReviewById(id);
         checkMatchUser(review, userId); // 리뷰 작성자와 수정하려는 사용자가 같은지 확인합니다.
+        bookRepository.lockForUpdate(review.getBook());
         review.setDeleted(true);
-        review.getBook().downReviewCnt(); // 책의 리뷰수를 감소시킵니다.
-        review.getBook().setScoreAvg(bookRepository.calcScoreAvg(review.getBook().getId()));    // 책의 평점을 다시 계산합니다.
+        review.getBook().removeReview(review); // 책의 리뷰수를 감소시키고 평점을 다시 계산합니다.
+        mostReviewedBook.changed(review.getBook());
         review.getUser().downPoint(review.getPoint()); // 사용자의 포인트를 회수합니다.
+        weeklyBestBooks.reviewDeleted(review); // 삭제가 커밋된 뒤 지난주 베스트 책 순위에 반영합니다.
     }
 
     /**
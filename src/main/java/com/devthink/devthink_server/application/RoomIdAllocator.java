@@ -0,0 +1,72 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.IdBlock;
+import com.devthink.devthink_server.infra.IdBlockRepository;
+import com.devthink.devthink_server.infra.UserRoomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쪽지방 번호를 겹치지 않게 나누어 줍니다. (hi/lo 방식)
+ * DB의 IdBlock 행을 잠그고 blockSize 개의 번호를 한 번에 예약한 뒤, 예약한 번호는 메모리에서 차례로 나누어 줍니다.
+ * 여러 서버가 동시에 방을 만들어도 서로 다른 블록을 예약하므로 번호가 겹치지 않고, 블록을 다 쓸 때만 DB를 조회합니다.
+ * 서버가 재시작되면 쓰지 않은 번호는 버려지므로 방번호는 연속되지 않을 수 있습니다.
+ */
+@Component
+public class RoomIdAllocator {
+    static final String NAME = "user_room";
+
+    private final IdBlockRepository idBlockRepository;
+    private final UserRoomRepository userRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private long next;
+    private long limit;
+
+    public RoomIdAllocator(IdBlockRepository idBlockRepository, UserRoomRepository userRoomRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${letter.room-id-block-size:100}") int blockSize) {
+        this.idBlockRepository = idBlockRepository;
+        this.userRoomRepository = userRoomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 새 방번호를 반환합니다.
+     * @return Long 방번호
+     */
+    public synchronized Long allocate() {
+        if (next >= limit) {
+            next = reserve();
+            limit = next + blockSize;
+        }
+        return next++;
+    }
+
+    private long reserve() {
+        try {
+            return transactionTemplate.execute(status -> reserveBlock());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 이름의 블록을 먼저 만든 경우, 만들어진 블록에서 다시 예약합니다.
+            return transactionTemplate.execute(status -> reserveBlock());
+        }
+    }
+
+    private Long reserveBlock() {
+        IdBlock block = idBlockRepository.findForUpdate(NAME)
+                .orElseGet(() -> idBlockRepository.saveAndFlush(new IdBlock(NAME, initialValue())));
+        return block.reserve(blockSize);
+    }
+
+    // 블록이 처음 만들어질 때는 기존 방번호 다음 번호부터 시작합니다.
+    private Long initialValue() {
+        Long maxRoom = userRoomRepository.maxRoom();
+        return maxRoom == null ? 1L : maxRoom + 1;
+    }
+}
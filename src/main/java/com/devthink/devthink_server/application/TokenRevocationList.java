@@ -0,0 +1,111 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.RevokedToken;
+import com.devthink.devthink_server.infra.RevokedTokenRepository;
+import com.devthink.devthink_server.utils.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 토큰(jti) 목록을 메모리에 유지합니다.
+ * 요청마다 확인하는 경로에서는 블룸 필터로 대부분의 토큰을 걸러내고, 필터가 포함 가능성을 알릴 때만 정확한 집합을 확인합니다.
+ * 폐기 목록은 DB에 저장되어 시작 시 다시 불러오고, 다른 서버에서 폐기한 토큰은 주기적으로 가져옵니다.
+ * 만료된 토큰은 더 이상 검사할 필요가 없으므로 매일 지우고 블룸 필터를 다시 만듭니다.
+ */
+@Component
+public class TokenRevocationList {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+    // jti -> 토큰 만료 시각
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private LocalDateTime lastSync = LocalDateTime.now();
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.revocation-expected:100000}") int expectedRevocations) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. DB를 조회하지 않습니다.
+     * @param jti 토큰 식별자
+     * @return boolean 폐기 여부
+     */
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰을 폐기합니다.
+     * @param jti 토큰 식별자
+     * @param expiresAt 토큰 만료 시각
+     * @return boolean 이번 호출로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String jti, LocalDateTime expiresAt) {
+        if (revoked.containsKey(jti)) {
+            return false;
+        }
+        try {
+            revokedTokenRepository.saveAndFlush(new RevokedToken(jti, expiresAt, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            add(jti, expiresAt);
+            return false;
+        }
+        return add(jti, expiresAt);
+    }
+
+    /**
+     * 시작 시 아직 만료되지 않은 폐기 토큰을 불러옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        lastSync = now;
+    }
+
+    /**
+     * 다른 서버에서 폐기한 토큰을 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-sync-ms:60000}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS), now)
+                .forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        lastSync = now;
+    }
+
+    /**
+     * 만료된 폐기 토큰을 지우고 남은 토큰으로 블룸 필터를 다시 만듭니다.
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public synchronized void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    // 조회가 정확한 집합에서 놓치지 않도록 블룸 필터에 먼저 넣습니다. 필터를 다시 만드는 동안에는 기다립니다.
+    private synchronized boolean add(String jti, LocalDateTime expiresAt) {
+        filter.put(jti);
+        return revoked.putIfAbsent(jti, expiresAt) == null;
+    }
+}
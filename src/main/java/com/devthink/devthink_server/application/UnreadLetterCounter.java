@@ -0,0 +1,79 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.infra.InboxRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 전체 안 읽은 쪽지 수를 메모리에 유지합니다.
+ * 시작할 때 쪽지방 목록 테이블에서 한 번 집계하고, 이후에는 쪽지 전송/읽음 처리 트랜잭션이 커밋될 때 더하고 뺍니다.
+ * 롤백된 쪽지는 반영되지 않으며, 조회는 DB를 거치지 않습니다.
+ */
+@Component
+public class UnreadLetterCounter {
+
+    private final InboxRepository inboxRepository;
+    private volatile Map<Long, Long> counts;
+
+    public UnreadLetterCounter(InboxRepository inboxRepository) {
+        this.inboxRepository = inboxRepository;
+    }
+
+    /**
+     * 유저의 전체 안 읽은 쪽지 수를 반환합니다.
+     * @param userId 유저 아이디
+     * @return long 안 읽은 쪽지 수
+     */
+    public long get(Long userId) {
+        return counts().getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 쪽지방 목록 테이블에서 유저별 안 읽은 쪽지 수를 다시 집계합니다.
+     * 기존 쪽지로 쪽지방 목록을 채운 뒤에 실행됩니다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Long> rebuilt = new ConcurrentHashMap<>();
+        inboxRepository.sumUnreadByUser().forEach(count -> rebuilt.put(count.getUserId(), count.getUnreadCnt()));
+        counts = rebuilt;
+    }
+
+    /**
+     * 받는 사람의 안 읽은 쪽지 수를 늘립니다. 알림 전송보다 먼저 반영됩니다.
+     * @param event 쪽지 전송 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void letterSent(LetterSentEvent event) {
+        counts().merge(event.getTargetId(), 1L, Long::sum);
+    }
+
+    /**
+     * 읽음 처리된 쪽지 수만큼 안 읽은 쪽지 수를 줄입니다. 알림 전송보다 먼저 반영됩니다.
+     * @param event 읽음 처리 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void lettersRead(LettersReadEvent event) {
+        counts().computeIfPresent(event.getUserId(), (userId, count) -> count > event.getRead() ? count - event.getRead() : null);
+    }
+
+    private Map<Long, Long> counts() {
+        Map<Long, Long> current = counts;
+        if (current == null) {
+            rebuild();
+            current = counts;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,104 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.infra.UserRepository;
+import com.devthink.devthink_server.utils.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 가입된 이메일과 닉네임을 블룸 필터로 메모리에 유지합니다.
+ * 입력 중 중복 확인 시 필터에 없는 값은 DB 를 조회하지 않고 사용 가능으로 판단하며, 필터에 있을 수 있는 값만 DB 의 유니크 인덱스로 확인합니다.
+ * 가입할 때는 필터를 거치지 않고 DB 로 확인하므로, 필터가 늦게 반영되어도 중복 가입되지 않습니다.
+ * 다른 서버에서 가입하거나 닉네임을 바꾼 사용자는 주기적으로 가져옵니다.
+ * DB 는 대소문자, 악센트, 뒤 공백을 구분하지 않고 비교하므로, 같은 값으로 비교되는 문자열이 같은 키가 되도록 더 넓게 정규화합니다.
+ * 항목을 지우지 않으므로 닉네임을 바꾸거나 탈퇴해도 예전 값은 DB 조회로 넘어갈 뿐 틀린 답을 주지 않습니다.
+ * 시작 시 불러오기 전에는 모든 값을 DB 로 확인합니다.
+ */
+@Component
+public class UserNameIndex {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final BloomFilter emails;
+    private final BloomFilter nicknames;
+    private volatile boolean loaded;
+    private LocalDateTime lastSync = LocalDateTime.now();
+
+    public UserNameIndex(UserRepository userRepository,
+                         @Value("${user.name-index-expected:100000}") int expectedUsers) {
+        this.userRepository = userRepository;
+        this.emails = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+        this.nicknames = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 시작 시 가입된 모든 이메일과 닉네임을 불러옵니다.
+     * 불러오는 동안 가입한 사용자는 addEmail, addNickname 으로 같은 필터에 추가되므로 빠지지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.findAllEmails().forEach(this::addEmail);
+        userRepository.findAllNicknames().forEach(this::addNickname);
+        lastSync = now;
+        loaded = true;
+    }
+
+    /**
+     * 다른 서버에서 가입하거나 닉네임을 바꾼 사용자를 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${user.name-index-sync-ms:60000}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.findNamesUpdatedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS))
+                .forEach(name -> {
+                    addEmail(name.getEmail());
+                    addNickname(name.getNickname());
+                });
+        lastSync = now;
+    }
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지 확인합니다. false 이면 가입되지 않은 이메일입니다.
+     */
+    public boolean mightContainEmail(String email) {
+        return !loaded || emails.mightContain(normalize(email));
+    }
+
+    /**
+     * 닉네임이 사용 중일 수 있는지 확인합니다. false 이면 사용되지 않은 닉네임입니다.
+     */
+    public boolean mightContainNickname(String nickname) {
+        return !loaded || nicknames.mightContain(normalize(nickname));
+    }
+
+    public void addEmail(String email) {
+        if (email != null) {
+            emails.put(normalize(email));
+        }
+    }
+
+    public void addNickname(String nickname) {
+        if (nickname != null) {
+            nicknames.put(normalize(nickname));
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.strip().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+}
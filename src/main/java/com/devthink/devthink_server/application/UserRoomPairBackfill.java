@@ -0,0 +1,60 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.UserRoom;
+import com.devthink.devthink_server.infra.UserRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저 쌍(lowUserId, highUserId)이 없는 기존 방에 유저 쌍을 채웁니다.
+ * 이전 방식으로 같은 유저 쌍의 방이 여러 개 만들어진 경우, 가장 먼저 만들어진 방에만 유저 쌍을 채워 이후 쪽지가 그 방으로 모이게 합니다.
+ * 나머지 방은 방번호로 계속 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class UserRoomPairBackfill {
+
+    private final UserRoomRepository userRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserRoomPairBackfill(UserRoomRepository userRoomRepository, PlatformTransactionManager transactionManager) {
+        this.userRoomRepository = userRoomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시 유저 쌍이 없는 방을 채웁니다.
+     * @return 유저 쌍이 채워진 방 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        Integer assigned = transactionTemplate.execute(status -> {
+            List<UserRoom> rooms = userRoomRepository.findByLowUserIdIsNullOrderByIdAsc();
+            Set<String> pairs = new HashSet<>();
+            int count = 0;
+            for (UserRoom room : rooms) {
+                Long user1Id = room.getUser1().getId();
+                Long user2Id = room.getUser2().getId();
+                String pair = Math.min(user1Id, user2Id) + ":" + Math.max(user1Id, user2Id);
+                if (pairs.add(pair) && userRoomRepository
+                        .findByLowUserIdAndHighUserId(Math.min(user1Id, user2Id), Math.max(user1Id, user2Id)).isEmpty()) {
+                    room.assignPair();
+                    count++;
+                }
+            }
+            return count;
+        });
+        if (assigned != null && assigned > 0) {
+            log.info("Assigned user pairs to {} rooms", assigned);
+        }
+        return assigned == null ? 0 : assigned;
+    }
+}
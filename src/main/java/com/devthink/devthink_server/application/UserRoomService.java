@@ -5,11 +5,11 @@ import com.devthink.devthink_server.domain.UserRoom;
 import com.devthink.devthink_server.errors.UserRoomNotFoundException;
 import com.devthink.devthink_server.infra.UserRoomRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
-import java.util.List;
 
 @Service
 @Transactional
@@ -17,6 +17,7 @@ import java.util.List;
 public class UserRoomService {
 
     private final UserRoomRepository userRoomRepository;
+    private final RoomIdAllocator roomIdAllocator;
 
     public UserRoom getUserRoom(Long senderId, Long targetId, Long roomId) {
         return userRoomRepository.getUserRoom(senderId, targetId, roomId)
@@ -27,28 +28,32 @@ public class UserRoomService {
                 .orElseThrow(()-> new UserRoomNotFoundException(roomId));
     }
 
-    public UserRoom save(User user1, User user2, Long roomId) {
-        UserRoom userRoom = userRoomRepository.save(
-                UserRoom.builder()
-                        .user1(user1)
-                        .user2(user2)
-                        .roomId(roomId)
-                        .build()
-        );
-        return userRoom;
+    /**
+     * 두 유저의 방을 반환하고, 방이 없으면 새 방번호로 만듭니다.
+     * (작은 유저 아이디, 큰 유저 아이디) 유니크 인덱스로 한 번 조회하며, 동시에 같은 방이 만들어지면 먼저 만들어진 방을 반환합니다.
+     * 유니크 제약 위반 후 다시 조회할 수 있도록 트랜잭션 밖에서 실행합니다.
+     * @param sender 쪽지를 보내는 유저
+     * @param target 쪽지를 받는 유저
+     * @return UserRoom 두 유저의 방
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public UserRoom getOrCreateRoom(User sender, User target) {
+        Long lowUserId = Math.min(sender.getId(), target.getId());
+        Long highUserId = Math.max(sender.getId(), target.getId());
+        return userRoomRepository.findByLowUserIdAndHighUserId(lowUserId, highUserId)
+                .orElseGet(() -> createRoom(sender, target));
     }
 
-    // 유저 방 id 가져오기
-    public int existChat(Long senderId, Long targetId){
-        return userRoomRepository.existChat(senderId, targetId);
-    }
-
-    // 유저 최대 방 id 가져오기
-    public Long getMaxRoom(){
-        return userRoomRepository.maxRoom();
-    }
-
-    public UserRoom getExistUserRoom(Long senderId, Long targetId){
-        return userRoomRepository.selectRoom(senderId, targetId, PageRequest.of(0, 1)).get(0);
+    private UserRoom createRoom(User sender, User target) {
+        // 제약 위반으로 롤백되면 영속성 컨텍스트가 비워지므로, 캐시된 사용자 프록시를 미리 불러와 이후에도 읽을 수 있게 합니다.
+        Hibernate.initialize(sender);
+        Hibernate.initialize(target);
+        try {
+            return userRoomRepository.saveAndFlush(UserRoom.of(sender, target, roomIdAllocator.allocate()));
+        } catch (DataIntegrityViolationException e) {
+            return userRoomRepository.findByLowUserIdAndHighUserId(
+                    Math.min(sender.getId(), target.getId()), Math.max(sender.getId(), target.getId()))
+                    .orElseThrow(() -> e);
+        }
     }
 }
@@ -3,16 +3,24 @@ package com.devthink.devthink_server.application;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.infra.UserRepository;
 import com.devthink.devthink_server.dto.UserModificationData;
+import com.devthink.devthink_server.dto.UserProfileData;
 import com.devthink.devthink_server.dto.UserRegistrationData;
 import com.devthink.devthink_server.errors.UserEmailDuplicationException;
 import com.devthink.devthink_server.errors.UserNickNameDuplicationException;
 import com.devthink.devthink_server.errors.UserNotFoundException;
+import com.devthink.devthink_server.utils.ExpiringLruCache;
 import com.github.dozermapper.core.Mapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.transaction.Transactional;
 import java.nio.file.AccessDeniedException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 사용자의 요청을 받아, 실제 내부에서 작동하는 클래스 입니다.
@@ -23,21 +31,51 @@ public class UserService {
     private final UserRepository userRepository;
     private final Mapper mapper;
     private final PasswordEncoder passwordEncoder;
-
-
-    public UserService(UserRepository userRepository, Mapper mapper, PasswordEncoder passwordEncoder) {
+    private final UserNameIndex userNameIndex;
+    // 사용자 식별자 -> 탈퇴하지 않은 사용자의 프로필 스냅샷
+    private final ExpiringLruCache<Long, UserProfileData> profiles;
+
+    public UserService(UserRepository userRepository, Mapper mapper, PasswordEncoder passwordEncoder,
+                       UserNameIndex userNameIndex,
+                       @Value("${user.cache-max-size:10000}") int cacheMaxSize,
+                       @Value("${user.cache-ttl-seconds:300}") long cacheTtlSeconds) {
         this.userRepository = userRepository;
         this.mapper = mapper;
         this.passwordEncoder = passwordEncoder;
+        this.userNameIndex = userNameIndex;
+        this.profiles = new ExpiringLruCache<>(cacheMaxSize, TimeUnit.SECONDS.toMillis(cacheTtlSeconds));
     }
 
     /**
      * 전달받은 사용자 식별자를 통해 사용자를 조회합니다.
+     * 프로필 스냅샷이 캐시된 사용자라면 DB를 조회하지 않고 프록시를 반환하며, 프록시는 식별자 외의 값을 처음 사용할 때 불러옵니다.
+     * 연관관계 지정이나 수정에 쓸 때는 이 메서드를, 닉네임과 프로필 이미지만 필요할 때는 getProfile 을 사용합니다.
      * @param id 사용자 식별자
      * @return 식별자와 일치하는 식별자를 가진 사용자.
      */
     public User getUser(Long id) {
-        return findUser(id);
+        if (profiles.get(id) != null) {
+            return userRepository.getById(id);
+        }
+        User user = findUser(id);
+        profiles.put(id, user.toUserProfileData());
+        return user;
+    }
+
+    /**
+     * 탈퇴하지 않은 사용자의 프로필 스냅샷(식별자, 닉네임, 프로필 이미지)을 반환합니다.
+     * 캐시된 스냅샷이 있으면 DB를 조회하지 않습니다.
+     * 사용자 정보를 수정하거나 탈퇴하면 커밋 후 캐시에서 지우고, 다른 서버에서 바뀐 정보는 유효 시간이 지나면 반영됩니다.
+     * @param id 사용자 식별자
+     * @return UserProfileData 프로필 스냅샷
+     */
+    public UserProfileData getProfile(Long id) {
+        UserProfileData profile = profiles.get(id);
+        if (profile == null) {
+            profile = findUser(id).toUserProfileData();
+            profiles.put(id, profile);
+        }
+        return profile;
     }
 
     /**
@@ -46,6 +84,7 @@ public class UserService {
      * @return 사용자의 정보를 DB에 저장.
      */
     public User registerUser(UserRegistrationData userRegistrationData) {
+        // 블룸 필터는 다른 서버의 가입을 늦게 반영하므로, 가입할 때는 항상 DB 로 확인합니다.
         String email = userRegistrationData.getEmail();
         if(userRepository.existsByEmail(email)) {
             throw new UserEmailDuplicationException(email);
@@ -56,8 +95,20 @@ public class UserService {
         }
         User user = mapper.map(userRegistrationData, User.class);
         user.changePassword(userRegistrationData.getPassword(), passwordEncoder);
-        
-        return userRepository.save(user);
+
+        // 저장이 끝나기 전에 확인하는 요청도 DB 로 넘어가도록 먼저 추가합니다.
+        userNameIndex.addEmail(email);
+        userNameIndex.addNickname(nickname);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 확인한 뒤 같은 이메일이나 닉네임으로 먼저 가입한 경우입니다.
+            String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+            if (message.contains(User.NICKNAME_CONSTRAINT)) {
+                throw new UserNickNameDuplicationException(nickname);
+            }
+            throw new UserEmailDuplicationException(email);
+        }
     }
 
     /**
@@ -66,7 +117,7 @@ public class UserService {
      * @return DB에 존재 여부. 존재하면 exception, 존재하지 않으면 false를 반환합니다.
      */
     public Boolean isDuplicateEmail(String userEmail) {
-        if(userRepository.existsByEmail(userEmail)) {
+        if(existsByEmail(userEmail)) {
             throw new UserEmailDuplicationException(userEmail);
         } else {
             return false;
@@ -79,7 +130,7 @@ public class UserService {
      * @return DB에 존재 여부. 존재하면 exception, 존재하지 않으면 false를 반환합니다.
      */
     public Boolean isDuplicateNickname(String userNickName) {
-        if(userRepository.existsByNickname(userNickName)) {
+        if(existsByNickname(userNickName)) {
             throw new UserNickNameDuplicationException(userNickName);
         } else {
             return false;
@@ -99,11 +150,28 @@ public class UserService {
         User user = findUser(id);
 
         User source = mapper.map(modificationData, User.class);
+        String nickname = source.getNickname();
+        // 다른 사용자의 닉네임으로 바꾸면 커밋할 때 유니크 제약에 걸리므로 미리 확인합니다.
+        if (nickname != null && !nickname.equalsIgnoreCase(user.getNickname())
+                && userRepository.existsByNickname(nickname)) {
+            throw new UserNickNameDuplicationException(nickname);
+        }
+        userNameIndex.addNickname(nickname);
         user.changeWith(source);
+        evictAfterCommit(id);
 
         return user;
     }
 
+    // 입력 중 중복 확인에만 사용합니다. 블룸 필터에 없는 값은 DB 를 조회하지 않습니다.
+    private boolean existsByEmail(String email) {
+        return userNameIndex.mightContainEmail(email) && userRepository.existsByEmail(email);
+    }
+
+    private boolean existsByNickname(String nickname) {
+        return userNameIndex.mightContainNickname(nickname) && userRepository.existsByNickname(nickname);
+    }
+
     /**
      * 전달받은 사용자의 식별자를 이용하여 사용자를 DB에서 찾고, 없으면 Error를 보냅니다.
      * @param id 찾고자 하는 사용자의 식별자
@@ -122,9 +190,26 @@ public class UserService {
     public User deleteUser(Long id) {
         User user = findUser(id);
         user.destroy();
+        evictAfterCommit(id);
         return user;
     }
 
+    /**
+     * 트랜잭션이 커밋된 뒤 캐시에서 사용자를 지웁니다.
+     * 커밋 전에 지우면 그 사이에 조회한 요청이 수정, 탈퇴 전 상태로 다시 캐시에 넣을 수 있습니다.
+     */
+    private void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            profiles.remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                profiles.remove(id);
+            }
+        });
+    }
 
     public User getUserProfile(String userNickName) {
         User user = userRepository.findByNicknameAndDeletedIsFalse(userNickName).orElseThrow(() -> new UserNotFoundException());
@@ -0,0 +1,122 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Review;
+import com.devthink.devthink_server.infra.BookRepository;
+import lombok.Getter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 지난주(월요일 0시 ~ 이번주 월요일 0시)에 리뷰가 가장 많이 달린 책 5권을 미리 계산해 둡니다.
+ * 매주 월요일 0시에 책별 리뷰 수를 한 번 집계하고, 이후에는 집계 기간에 작성된 리뷰가 삭제될 때만 리뷰 수를 줄여 순위를 다시 정합니다.
+ * 새로 작성되는 리뷰는 항상 이번 주에 속하므로 지난주 순위에 영향을 주지 않습니다.
+ */
+@Component
+public class WeeklyBestBooks {
+    private static final int SIZE = 5;
+
+    private final BookRepository bookRepository;
+    private final Map<Long, Long> reviewCounts = new HashMap<>();
+    private volatile Snapshot snapshot;
+
+    public WeeklyBestBooks(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * 지난주 베스트 책 5권의 식별자를 반환합니다.
+     * @return Snapshot 집계 기간과 베스트 책 5권의 식별자
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * 매주 월요일 0시에 지난주 책별 리뷰 수를 다시 집계합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * MON")
+    public synchronized void refresh() {
+        LocalDate currentDate = LocalDate.now();
+        LocalDateTime end = currentDate.minusDays(currentDate.getDayOfWeek().getValue() - 1).atStartOfDay();
+        LocalDateTime start = end.minusDays(7);
+
+        reviewCounts.clear();
+        bookRepository.countReviewsInPeriod(start, end)
+                .forEach(count -> reviewCounts.put(count.getBookId(), count.getReviewCnt()));
+        publish(start, end, true);
+    }
+
+    /**
+     * 집계 기간에 작성된 리뷰가 삭제되면 해당 책의 리뷰 수를 줄이고, 순위가 바뀐 경우 다시 만듭니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하므로, 삭제가 롤백되면 순위는 그대로입니다.
+     * @param review 삭제된 리뷰
+     */
+    public void reviewDeleted(Review review) {
+        Long bookId = review.getBook().getId();
+        LocalDateTime createAt = review.getCreateAt();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reviewDeleted(bookId, createAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reviewDeleted(bookId, createAt);
+            }
+        });
+    }
+
+    private synchronized void reviewDeleted(Long bookId, LocalDateTime createAt) {
+        Snapshot current = snapshot;
+        if (current == null || createAt == null
+                || createAt.isBefore(current.start) || !createAt.isBefore(current.end)) {
+            return;
+        }
+        reviewCounts.computeIfPresent(bookId, (id, count) -> count > 1 ? count - 1 : null);
+        publish(current.start, current.end, false);
+    }
+
+    private void publish(LocalDateTime start, LocalDateTime end, boolean force) {
+        List<Long> bookIds = reviewCounts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(SIZE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (!force && snapshot != null && snapshot.bookIds.equals(bookIds)) {
+            return;
+        }
+        snapshot = new Snapshot(start, end, Collections.unmodifiableList(bookIds));
+    }
+
+    /**
+     * 미리 계산된 집계 기간과 베스트 책 5권의 식별자(순위 순)입니다.
+     * 리뷰 수, 평점은 바뀔 수 있으므로 책 정보는 담지 않고 조회할 때 불러옵니다.
+     */
+    @Getter
+    public static class Snapshot {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final List<Long> bookIds;
+
+        private Snapshot(LocalDateTime start, LocalDateTime end, List<Long> bookIds) {
+            this.start = start;
+            this.end = end;
+            this.bookIds = bookIds;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.devthink.devthink_server.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 
 @EnableJpaAuditing
 @Configuration
 public class JpaConfig {
-}
\ No newline at end of file
+
+    /**
+     * 스프링 부트가 모든 경로에 등록하는 OSIV 인터셉터 대신 사용합니다.
+     * OSIV 는 처음 조회할 때 잡은 커넥션을 요청이 끝날 때까지 놓지 않으므로, WebMvcConfig 에서 로그인 경로를 빼고 등록합니다.
+     */
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+}
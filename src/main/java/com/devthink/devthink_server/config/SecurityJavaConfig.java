@@ -3,7 +3,12 @@ package com.devthink.devthink_server.config;
 import com.devthink.devthink_server.application.AuthenticationService;
 import com.devthink.devthink_server.filters.AuthenticationErrorFilter;
 import com.devthink.devthink_server.filters.JwtAuthenticationFilter;
+import com.devthink.devthink_server.filters.RateLimitFilter;
+import com.devthink.devthink_server.utils.AdaptiveConcurrencyLimit;
+import com.devthink.devthink_server.utils.ClientIpResolver;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -13,6 +18,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 
 import javax.servlet.Filter;
+import java.util.List;
 
 @Configuration
 @EnableGlobalMethodSecurity(prePostEnabled = true)
@@ -20,11 +26,46 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Value("${rate-limit.user-burst:100}")
+    private int userBurst;
+
+    @Value("${rate-limit.user-per-second:20}")
+    private double userPerSecond;
+
+    @Value("${rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${rate-limit.concurrency-initial:100}")
+    private int concurrencyInitial;
+
+    @Value("${rate-limit.concurrency-min:10}")
+    private int concurrencyMin;
+
+    @Value("${rate-limit.concurrency-max:200}")
+    private int concurrencyMax;
+
+    @Value("${rate-limit.latency-target-ms:500}")
+    private long latencyTargetMillis;
+
+    @Value("${client-ip.trusted-proxies:}")
+    private List<String> trustedProxies;
+
+    /**
+     * 로그인 시도 제한과 API 요청 제한이 같은 방법으로 클라이언트 IP 를 구하도록 함께 사용합니다.
+     */
+    @Bean
+    public ClientIpResolver clientIpResolver() {
+        return new ClientIpResolver(trustedProxies);
+    }
+
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         Filter authenticationFilter = new JwtAuthenticationFilter(
                 authenticationManager(), authenticationService);
         Filter authenticationErrorFilter = new AuthenticationErrorFilter();
+        Filter rateLimitFilter = new RateLimitFilter(userBurst, userPerSecond, maxKeys,
+                new AdaptiveConcurrencyLimit(concurrencyInitial, concurrencyMin, concurrencyMax, latencyTargetMillis),
+                clientIpResolver());
         http
                 .authorizeRequests()
                 .antMatchers("/h2-console/*")
@@ -37,6 +78,7 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
                 .csrf().disable()
                 .addFilter(authenticationFilter)
                 .addFilterBefore(authenticationErrorFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .sessionManagement()
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
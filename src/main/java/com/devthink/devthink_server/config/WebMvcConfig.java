@@ -0,0 +1,36 @@
+package com.devthink.devthink_server.config;
+
+import com.devthink.devthink_server.interceptors.RouteRateLimitInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Value("${rate-limit.route-burst:1000}")
+    private int routeBurst;
+
+    @Value("${rate-limit.route-per-second:500}")
+    private double routePerSecond;
+
+    @Value("${rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private final ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor;
+
+    public WebMvcConfig(ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor) {
+        this.openEntityManagerInViewInterceptor = openEntityManagerInViewInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RouteRateLimitInterceptor(routeBurst, routePerSecond, maxKeys));
+        // 로그인은 비밀번호 해시를 기다리는 동안 커넥션을 잡지 않도록 OSIV 에서 뺍니다.
+        openEntityManagerInViewInterceptor.ifAvailable(interceptor -> registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/session", "/session/**"));
+    }
+}
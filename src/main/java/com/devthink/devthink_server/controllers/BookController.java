@@ -9,9 +9,14 @@ import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/books")
@@ -63,31 +68,60 @@ public class BookController {
     }
 
     /**
-     * 책 이름에 검색어가 포함 된 책 리스트를 전달된 pageable 기준에 따라 조회합니다.
-     * [GET] /books/search?name= &page= &size= &sort= ,정렬방식
+     * 책 이름 또는 저자에 검색어가 포함 된 책 리스트를 관련도 순으로 전달된 page, size 에 따라 조회합니다. (sort 는 무시)
+     * [GET] /books/search?name= &page= &size=
      *
      * @return Book
      */
     @GetMapping("/search")
-    @ApiOperation(value = "책 검색", notes = "책 이름에 검색어가 포함 된 책 리스트를 전달된 pageable 기준에 따라 조회합니다.")
+    @ApiOperation(value = "책 검색", notes = "책 이름 또는 저자에 검색어가 포함 된 책 리스트를 관련도 순으로 page, size 에 따라 조회합니다. 결과는 항상 관련도 순이며 sort 파라미터는 무시됩니다.")
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
     public Page<BookResponseData> search(@RequestParam(name = "name") @ApiParam(value = "책 이름 검색어") String search, Pageable pageable) {
         return bookService.getSearchBooks(search, pageable);
     }
 
+    /**
+     * 책 검색 결과를 전체 개수 없이 다음 페이지 존재 여부만 포함하여 조회합니다.
+     * [GET] /books/search/slice?name= &page= &size=
+     *
+     * @return Book
+     */
+    @GetMapping("/search/slice")
+    @ApiOperation(value = "책 검색 (무한 스크롤)", notes = "책 이름 또는 저자에 검색어가 포함 된 책 리스트를 관련도 순으로 조회하며, 전체 개수 대신 다음 페이지 존재 여부를 전달합니다. 결과는 항상 관련도 순이며 sort 파라미터는 무시됩니다.")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public Slice<BookResponseData> searchSlice(@RequestParam(name = "name") @ApiParam(value = "책 이름 검색어") String search, Pageable pageable) {
+        return bookService.getSearchBookSlice(search, pageable);
+    }
+
     /**
      * 메인 화면에서 사용되는 api로, 1주일 동안 가장 많은 리뷰가 달린 5개의 책을 조회합니다.
      * [GET] /books/top5
+     * 응답 내용으로 만든 ETag 를 함께 전달하며, 결과가 바뀌지 않았으면 304 로 응답합니다.
+     * ETag 는 내용에서만 계산되므로 서버가 여러 대이거나 재시작되어도 같은 결과에는 같은 값을 가집니다.
      *
      * @return BookBestListResponseData
      */
     @GetMapping("/top5")
     @ApiOperation(value = "책 베스트 5", notes = "메인 화면에서 사용되는 api로, 1주일 동안 가장 많은 리뷰가 달린 5개의 책을 조회합니다.")
-    @ResponseStatus(HttpStatus.OK)
     @ResponseBody
-    public BookBestListResponseData top5() {
-        return bookService.getTop5BooksInPeriod();
+    public ResponseEntity<BookBestListResponseData> top5() {
+        BookBestListResponseData data = bookService.getTop5BooksInPeriod();
+        return ResponseEntity.ok()
+                .eTag(etag(data))
+                .body(data);
+    }
+
+    // 집계 기간과 순위, 책별 리뷰 수와 평점이 같으면 같은 값이 됩니다.
+    private static String etag(BookBestListResponseData data) {
+        List<Object> content = new ArrayList<>(List.of(data.getStart(), data.getEnd()));
+        for (BookResponseData book : data.getBooks()) {
+            content.add(book.getId());
+            content.add(book.getReviewCnt());
+            content.add(book.getScoreAvg() == null ? null : book.getScoreAvg().stripTrailingZeros().toPlainString());
+        }
+        return "\"" + Integer.toHexString(content.hashCode()) + "\"";
     }
 
 }
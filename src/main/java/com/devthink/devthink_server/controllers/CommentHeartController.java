@@ -10,6 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/comments/hearts")
 public class CommentHeartController {
@@ -19,6 +22,22 @@ public class CommentHeartController {
         this.commentHeartService = commentHeartService;
     }
 
+    /**
+     * 전달된 댓글 식별자 중 사용자가 좋아요한 댓글의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.
+     * @param ids 확인할 댓글 식별자 목록
+     * @return 좋아요한 댓글 식별자 목록
+     */
+    @ApiOperation(
+            value = "댓글 좋아요 여부 일괄 조회",
+            notes = "전달된 댓글 식별자 중 사용자가 좋아요한 댓글의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다."
+    )
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public Set<Long> getHeartedCommentIds(@RequestParam List<Long> ids, UserAuthentication userAuthentication) {
+        Long userId = userAuthentication.getUserId();
+        return commentHeartService.getHeartedCommentIds(userId, ids);
+    }
+
     /**
      * 좋아요를 생성하려는 댓글의 식별자와 사용자 토큰으로 새로운 댓글 좋아요를 생성하여, 그 정보를 리턴합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.
      * @param commentId 좋아요를 생성하려는 댓글의 식별자
@@ -50,8 +69,9 @@ public class CommentHeartController {
     @DeleteMapping("/{commentId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
-    public void destroyCommentHeart(@PathVariable Long commentId) {
-        commentHeartService.destroyCommentHeart(commentId);
+    public void destroyCommentHeart(@PathVariable Long commentId, UserAuthentication userAuthentication) {
+        Long userId = userAuthentication.getUserId();
+        commentHeartService.destroyCommentHeart(commentId, userId);
     }
 
     /**
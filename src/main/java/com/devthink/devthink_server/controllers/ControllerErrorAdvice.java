@@ -155,5 +155,17 @@ public class ControllerErrorAdvice {
         return new ErrorResponse("User can get 0 or 5 or 7 points from review");
     }
 
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(PasswordHashBusyException.class)
+    public ErrorResponse handlePasswordHashBusy() {
+        return new ErrorResponse("Too many login requests, try again later");
+    }
+
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(LoginRateLimitException.class)
+    public ErrorResponse handleLoginRateLimit() {
+        return new ErrorResponse("Too many login attempts, try again later");
+    }
+
 }
 
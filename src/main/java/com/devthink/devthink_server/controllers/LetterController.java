@@ -1,21 +1,28 @@
 package com.devthink.devthink_server.controllers;
 
+import com.devthink.devthink_server.application.LetterPushService;
 import com.devthink.devthink_server.application.LetterService;
 import com.devthink.devthink_server.application.UserRoomService;
 import com.devthink.devthink_server.application.UserService;
 import com.devthink.devthink_server.domain.Letter;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.domain.UserRoom;
+import com.devthink.devthink_server.dto.LetterHistoryData;
 import com.devthink.devthink_server.dto.LetterListData;
 import com.devthink.devthink_server.dto.LetterSendData;
+import com.devthink.devthink_server.dto.LetterSubscribeTokenData;
+import com.devthink.devthink_server.dto.LetterUnreadData;
 import com.devthink.devthink_server.dto.LetterResultData;
 import com.devthink.devthink_server.security.UserAuthentication;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 import java.nio.file.AccessDeniedException;
@@ -29,6 +36,7 @@ public class LetterController {
     private final LetterService letterService;
     private final UserService userService;
     private final UserRoomService userRoomService;
+    private final LetterPushService letterPushService;
 
     /**
      * 닉네임을 통한 쪽지 전송 API
@@ -51,7 +59,7 @@ public class LetterController {
         User target = letterService.findByNickname(letterSendData.getNickname());
         UserRoom userRoom = getUserRoom(letterSendData, sender, target);
         Letter letter = letterService.createMessage(userRoom, sender, target, letterSendData);
-        return letter.toLetterResultData();
+        return letter.toLetterResultData(userService.getProfile(userId));
     }
 
     /**
@@ -73,22 +81,76 @@ public class LetterController {
 
     /**
      * 쪽지 읽기 API
-     * [GET] /messages/lists/rooms/:roomId
+     * [GET] /messages/lists/rooms/:roomId?before= &size=
      *
      * @param roomId 방 아이디
-     * @return List<LetterResultData> 읽은 쪽지
+     * @param before 이전 페이지의 nextCursor, 첫 페이지는 생략
+     * @param size   페이지 크기
+     * @return LetterHistoryData 쪽지 목록과 다음 커서
      */
     @GetMapping("/lists/rooms/{roomId}")
-    @ApiOperation(value = "쪽지 내용 가져오기", notes = "방 id를 받아서 받은 쪽지를 읽습니다. 헤더에 사용자 토큰 주입을 필요로 합니다.")
+    @ApiOperation(value = "쪽지 내용 가져오기", notes = "방 id를 받아서 커서(before) 이전의 쪽지를 최신순으로 size 개 가져옵니다. 첫 페이지를 조회할 때 받은 쪽지를 읽음 처리 합니다. 응답의 nextCursor를 다음 요청의 before로 전달합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.")
     @PreAuthorize("isAuthenticated()")
     @ResponseStatus(HttpStatus.OK)
-    public List<LetterResultData> getMessage(@PathVariable("roomId") Long roomId,
-                                             UserAuthentication userAuthentication
+    public LetterHistoryData getMessage(@PathVariable("roomId") Long roomId,
+                                        @RequestParam(required = false) Long before,
+                                        @RequestParam(defaultValue = "20") int size,
+                                        UserAuthentication userAuthentication
     ) throws AccessDeniedException {
         Long userId = userAuthentication.getUserId();
         User user = userService.getUser(userId);
         UserRoom userRoom = userRoomService.getUserRoom(roomId);
-        return letterService.getMessage(user, userRoom);
+        return letterService.getMessage(user, userRoom, before, size);
+    }
+
+    /**
+     * 안 읽은 쪽지 수 API
+     * [GET] /messages/unread-count
+     *
+     * @return LetterUnreadData 전체 안 읽은 쪽지 수
+     */
+    @GetMapping("/unread-count")
+    @ApiOperation(value = "안 읽은 쪽지 수", notes = "모든 방의 안 읽은 쪽지 수를 반환합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.")
+    @PreAuthorize("isAuthenticated()")
+    @ResponseStatus(HttpStatus.OK)
+    public LetterUnreadData unreadCount(UserAuthentication userAuthentication) {
+        return letterService.getUnreadCount(userAuthentication.getUserId());
+    }
+
+    /**
+     * 쪽지 알림 구독 토큰 발급 API
+     * [POST] /messages/subscribe-token
+     *
+     * @return LetterSubscribeTokenData 한 번만 쓸 수 있는 구독 토큰
+     */
+    @PostMapping("/subscribe-token")
+    @ApiOperation(value = "쪽지 알림 구독 토큰 발급", notes = "Authorization 헤더를 보낼 수 없는 브라우저 EventSource 를 위해, 짧은 시간 동안 한 번만 쓸 수 있는 구독 토큰을 발급합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.")
+    @PreAuthorize("isAuthenticated()")
+    @ResponseStatus(HttpStatus.CREATED)
+    public LetterSubscribeTokenData issueSubscribeToken(UserAuthentication userAuthentication) {
+        return LetterSubscribeTokenData.builder()
+                .token(letterPushService.issueSubscribeToken(userAuthentication.getUserId()))
+                .build();
+    }
+
+    /**
+     * 쪽지 알림 구독 API
+     * [GET] /messages/subscribe?token=
+     *
+     * @param token 구독 토큰 발급 API로 받은 토큰, Authorization 헤더로 인증하면 생략
+     * @return SseEmitter 새 쪽지(letter)와 안 읽은 쪽지 수(unread) 이벤트 스트림
+     */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "쪽지 알림 구독", notes = "새 쪽지(letter)와 안 읽은 쪽지 수(unread)를 SSE로 전달받습니다. 구독 직후 현재 안 읽은 쪽지 수를 전달합니다. 헤더에 사용자 토큰을 주입하거나, 브라우저 EventSource 는 구독 토큰을 token 쿼리 파라미터로 전달합니다.")
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) String token,
+                                                UserAuthentication userAuthentication) {
+        Long userId = token != null ? letterPushService.redeemSubscribeToken(token)
+                : userAuthentication != null ? userAuthentication.getUserId() : null;
+        // 이벤트 스트림으로는 에러 응답 본문을 보낼 수 없으므로 상태 코드만 응답합니다.
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(letterPushService.subscribe(userId));
     }
 
     /**
@@ -100,22 +162,10 @@ public class LetterController {
      * @return UserRoom 유저의 방 데이터
      */
     private UserRoom getUserRoom(LetterSendData letterSendData, User sender, User target) {
-        UserRoom userRoom;
         if (letterSendData.getRoomId() == 0) {
-            int existRoom = userRoomService.existChat(sender.getId(), target.getId());
-            if (existRoom == 0) {
-                Long maxRoom = userRoomService.getMaxRoom();
-                if (maxRoom == null)
-                    userRoom = userRoomService.save(sender, target, 1L);
-                else
-                    userRoom = userRoomService.save(sender, target, maxRoom + 1);
-            } else {
-                userRoom = userRoomService.getExistUserRoom(sender.getId(), target.getId());
-            }
-        } else {
-            userRoom = userRoomService.getUserRoom(sender.getId(), target.getId(), letterSendData.getRoomId());
+            return userRoomService.getOrCreateRoom(sender, target);
         }
-        return userRoom;
+        return userRoomService.getUserRoom(sender.getId(), target.getId(), letterSendData.getRoomId());
     }
 
 }
@@ -5,12 +5,14 @@ import com.devthink.devthink_server.application.PostHeartService;
 import com.devthink.devthink_server.application.PostService;
 import com.devthink.devthink_server.application.UserService;
 import com.devthink.devthink_server.domain.*;
+import com.devthink.devthink_server.dto.PostFeedData;
 import com.devthink.devthink_server.dto.PostListData;
 import com.devthink.devthink_server.dto.PostRequestData;
 import com.devthink.devthink_server.dto.PostResponseData;
 import com.devthink.devthink_server.security.UserAuthentication;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,8 +20,9 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.nio.file.AccessDeniedException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/posts")
@@ -32,15 +35,22 @@ public class PostController {
     private final PostHeartService postHeartService;
 
     /**
-     * 페이지를 요청하면 카테고리별 페이지의 게시글을 가져옵니다.
-     * [GET] /posts/list/:categoryId
-     * @return List<PostListData> 카테고리별 게시글 리스트
+     * 커서를 전달하면 커서 이후의 카테고리별 게시글을 가져옵니다.
+     * [GET] /posts/list/:categoryId?afterId= &size=
+     * @param afterId 이전 페이지의 nextCursor, 첫 페이지는 생략
+     * @param size 페이지 크기
+     * @return PostFeedData 카테고리별 게시글 리스트와 다음 커서
      */
     @GetMapping("/list/{categoryId}")
     @ResponseStatus(HttpStatus.OK)
-    @ApiOperation(value = "카테고리별 게시글 리스트 조회", notes = "게시글 전체 리스트를 전달된 카테고리별로 조회합니다.")
-    public List<PostListData> list(@PathVariable("categoryId") Long categoryId) {
-        return postService.getPosts(categoryId);
+    @ApiOperation(value = "카테고리별 게시글 리스트 조회", notes = "전달된 커서(afterId) 이후의 게시글을 카테고리별로 size 개 조회합니다. 응답의 nextCursor를 다음 요청의 afterId로 전달합니다.")
+    public PostFeedData list(@PathVariable("categoryId") Long categoryId,
+                             @RequestParam(required = false) Long afterId,
+                             @RequestParam(defaultValue = "20") int size,
+                             UserAuthentication userAuthentication) {
+        PostFeedData postFeedData = postService.getPosts(categoryId, afterId, size);
+        markHeartPresent(postFeedData.getPosts(), userAuthentication);
+        return postFeedData;
     }
 
     /**
@@ -53,10 +63,8 @@ public class PostController {
     @ResponseStatus(HttpStatus.OK)
     @ApiOperation(value = "게시글 검색", notes = "게시글의 id를 검색하여 게시글을 가져옵니다.")
     public PostResponseData getPost(@PathVariable("id") Long id, UserAuthentication authentication) {
-        Long userId = authentication.getUserId();
-        Boolean checkHeart = postHeartService.checkPostHeart(id, userId);
-        Post post = postService.getPostById(id);
-        return post.toPostResponseData(checkHeart);
+        Boolean checkHeart = authentication != null && postHeartService.checkPostHeart(id, authentication.getUserId());
+        return postService.getPostDetail(id, checkHeart);
     }
 
     /**
@@ -76,7 +84,7 @@ public class PostController {
         User user = userService.getUser(userId);
         Category category = categoryService.getCategory(postRequestData.getCategoryId());
         Post post = postService.savePost(user, category, postRequestData);
-        return post.toPostResponseData(false);
+        return post.toPostResponseData(false, userService.getProfile(userId));
     }
 
     /**
@@ -99,7 +107,7 @@ public class PostController {
         Boolean checkHeart = postHeartService.checkPostHeart(id, userId);
 
         Post updatedPost = postService.update(user, post, postRequestData);
-        return updatedPost.toPostResponseData(checkHeart);
+        return updatedPost.toPostResponseData(checkHeart, userService.getProfile(userId));
     }
 
     /**
@@ -123,18 +131,21 @@ public class PostController {
     }
 
     /**
-     * 카테고리별 제목 검색 API
-     * [GET] /posts/search/:categoryId?keyword=제목
+     * 카테고리별 게시글 검색 API
+     * [GET] /posts/search/:categoryId?keyword=검색어&page= &size=
      * @param categoryId 카테고리 아이디
-     * @param keyword 검색 제목
-     * @return 제목이 담긴 게시글
+     * @param keyword 검색어
+     * @param pageable 페이지 정보
+     * @return 검색어가 담긴 게시글 (관련도 순)
      */
     @GetMapping("/search/{categoryId}")
     @ResponseStatus(HttpStatus.OK)
-    @ApiOperation(value = "카테고리별 게시글 검색", notes = "사용자로부터 제목을 받아, 카테고리별 제목이 담긴 게시글을 반환합니다.")
-    public List<PostListData> search(@PathVariable("categoryId") Long categoryId, @RequestParam String keyword, UserAuthentication userAuthentication) {
-        List<Post> posts = postService.search(categoryId, keyword);
-        return getPostListData(posts);
+    @ApiOperation(value = "카테고리별 게시글 검색", notes = "사용자로부터 검색어를 받아, 카테고리별로 제목, 부제목, 내용에 검색어가 담긴 게시글을 관련도 순으로 반환합니다.")
+    public Page<PostListData> search(@PathVariable("categoryId") Long categoryId, @RequestParam String keyword,
+                                     Pageable pageable, UserAuthentication userAuthentication) {
+        Page<PostListData> posts = postService.search(categoryId, keyword, pageable);
+        markHeartPresent(posts.getContent(), userAuthentication);
+        return posts;
     }
 
     /**
@@ -148,9 +159,24 @@ public class PostController {
     @ApiOperation(value = "카테고리별 베스트 게시글 가져오기", notes = "사용자로부터 카테고리 id를 받아, 베스트 게시글을 가져옵니다.")
     public List<PostListData> searchBest(@PathVariable("categoryId") Long categoryId, UserAuthentication userAuthentication) {
         Category category = categoryService.getCategory(categoryId);
-        List<Post> posts = postService.getBestPost(category);
+        List<PostListData> posts = postService.getBestPost(category);
+        markHeartPresent(posts, userAuthentication);
+        return posts;
+    }
 
-        return getPostListData(posts);
+    /**
+     * 로그인한 사용자라면 게시글 목록에 좋아요 여부를 표시합니다.
+     * 목록 전체를 한 번에 확인하므로 게시글 수만큼 조회하지 않습니다.
+     * @param posts 게시글 목록
+     * @param userAuthentication 사용자 인증 정보, 비로그인 시 null
+     */
+    private void markHeartPresent(List<PostListData> posts, UserAuthentication userAuthentication) {
+        if (userAuthentication == null || posts.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = posts.stream().map(PostListData::getId).collect(Collectors.toList());
+        Set<Long> heartedIds = postHeartService.getHeartedPostIds(userAuthentication.getUserId(), postIds);
+        posts.forEach(post -> post.setHeartPresent(heartedIds.contains(post.getId())));
     }
 
 
@@ -175,13 +201,4 @@ public class PostController {
         return postService.report(user, post, reportUser);
     }
 
-
-    private List<PostListData> getPostListData(List<Post> posts) {
-        List<PostListData> postDataList = new ArrayList<>();
-
-        for(Post post : posts) {
-            postDataList.add(post.toPostListData());
-        }
-        return postDataList;
-    }
 }
@@ -10,6 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/replies/hearts")
 public class ReplyHeartController {
@@ -20,6 +23,22 @@ public class ReplyHeartController {
         this.replyHeartService = replyHeartService;
     }
 
+    /**
+     * 전달된 답글 식별자 중 사용자가 좋아요한 답글의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.
+     * @param ids 확인할 답글 식별자 목록
+     * @return 좋아요한 답글 식별자 목록
+     */
+    @ApiOperation(
+            value = "답글 좋아요 여부 일괄 조회",
+            notes = "전달된 답글 식별자 중 사용자가 좋아요한 답글의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다."
+    )
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public Set<Long> getHeartedReplyIds(@RequestParam List<Long> ids, UserAuthentication userAuthentication) {
+        Long userId = userAuthentication.getUserId();
+        return replyHeartService.getHeartedReplyIds(userId, ids);
+    }
+
     @ApiOperation(
             value ="답글 좋아요 생성",
             notes = "좋아요를 생성하려는 답글의 식별자와 사용자 토큰으로 새로운 답글 좋아요를 생성하여, 그 정보를 리턴합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.",
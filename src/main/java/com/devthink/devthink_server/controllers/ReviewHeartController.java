@@ -10,6 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("reviews/hearts")
 public class ReviewHeartController {
@@ -19,6 +22,22 @@ public class ReviewHeartController {
         this.reviewHeartService = reviewHeartService;
     }
 
+    /**
+     * 전달된 리뷰 식별자 중 사용자가 좋아요한 리뷰의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.
+     * @param ids 확인할 리뷰 식별자 목록
+     * @return 좋아요한 리뷰 식별자 목록
+     */
+    @ApiOperation(
+            value = "리뷰 좋아요 여부 일괄 조회",
+            notes = "전달된 리뷰 식별자 중 사용자가 좋아요한 리뷰의 식별자를 한 번에 조회합니다. 헤더에 사용자 토큰 주입을 필요로 합니다."
+    )
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public Set<Long> getHeartedReviewIds(@RequestParam List<Long> ids, UserAuthentication userAuthentication) {
+        Long userId = userAuthentication.getUserId();
+        return reviewHeartService.getHeartedReviewIds(userId, ids);
+    }
+
     /**
      * 좋아요를 생성하려는 리뷰 식별자와 사용자 식별자로 새로운 리뷰 좋아요를 생성하여, 그 정보를 리턴합니다.
      * @param reviewId 좋아요를 생성하려는 리뷰 식별자
@@ -50,8 +69,9 @@ public class ReviewHeartController {
     @DeleteMapping("/reviews/{reviewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
-    public void destroyReviewHeart(@PathVariable Long reviewId) {
-        reviewHeartService.destroyReviewHeart(reviewId);
+    public void destroyReviewHeart(@PathVariable Long reviewId, UserAuthentication userAuthentication) {
+        Long userId = userAuthentication.getUserId();
+        reviewHeartService.destroyReviewHeart(reviewId, userId);
     }
 
     /**
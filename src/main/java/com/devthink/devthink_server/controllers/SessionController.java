@@ -1,37 +1,63 @@
 package com.devthink.devthink_server.controllers;
 
 import com.devthink.devthink_server.application.AuthenticationService;
+import com.devthink.devthink_server.application.LoginRateLimiter;
+import com.devthink.devthink_server.dto.SessionRefreshData;
 import com.devthink.devthink_server.dto.SessionRequestData;
 import com.devthink.devthink_server.dto.SessionResponseData;
+import com.devthink.devthink_server.utils.ClientIpResolver;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+
 @RequestMapping("/session")
 @RestController
 public class SessionController {
 
     private AuthenticationService authenticationService;
+    private LoginRateLimiter loginRateLimiter;
+    private ClientIpResolver clientIpResolver;
 
-    public SessionController(AuthenticationService authenticationService) {
+    public SessionController(AuthenticationService authenticationService, LoginRateLimiter loginRateLimiter,
+                             ClientIpResolver clientIpResolver) {
         this.authenticationService = authenticationService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    @ApiOperation(value = "사용자 로그인", notes = "사용자의 세션 데이터를 입력받아 로그인을 진행합니다.")
+    @ApiOperation(value = "사용자 로그인", notes = "사용자의 세션 데이터를 입력받아 로그인을 진행합니다. 이메일이나 IP 별 시도 횟수를 넘으면 429 를 반환합니다.")
     @ApiImplicitParam(required = true, name = "사용자 로그인 데이터", example = "abc@email.com, 123567890")
-    public SessionResponseData login(@RequestBody SessionRequestData sessionRequestData) {
+    public SessionResponseData login(@RequestBody SessionRequestData sessionRequestData,
+                                     HttpServletRequest request) {
         String email = sessionRequestData.getEmail();
         String password = sessionRequestData.getPassword();
+        loginRateLimiter.check(email, clientIpResolver.resolve(request));
 
-        String accessToken = authenticationService.login(email, password);
+        return authenticationService.login(email, password);
+    }
 
-        return SessionResponseData.builder()
-                .accessToken(accessToken)
-                .build();
+    @PostMapping("/refresh")
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiOperation(value = "토큰 재발급", notes = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    public SessionResponseData refresh(@RequestBody SessionRefreshData sessionRefreshData) {
+        return authenticationService.refresh(sessionRefreshData.getRefreshToken());
+    }
 
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated()")
+    @ApiOperation(value = "사용자 로그아웃", notes = "현재 액세스 토큰과 전달된 리프레시 토큰을 폐기합니다. 헤더에 사용자 토큰 주입을 필요로 합니다.")
+    public void logout(@RequestHeader("Authorization") String authorization,
+                       @RequestBody(required = false) SessionRefreshData sessionRefreshData) {
+        String accessToken = authorization.substring("Bearer ".length());
+        String refreshToken = sessionRefreshData == null ? null : sessionRefreshData.getRefreshToken();
+        authenticationService.logout(accessToken, refreshToken);
     }
 
 }
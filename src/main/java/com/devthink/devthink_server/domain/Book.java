@@ -6,11 +6,13 @@ import lombok.*;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = @Index(name = "idx_book_review_cnt", columnList = "reviewCnt"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -35,18 +37,47 @@ public class Book extends BaseTimeEntity {
     @Builder.Default
     private BigDecimal scoreAvg = new BigDecimal("0");
 
+    // 삭제되지 않은 리뷰 별점의 합계로, 평점을 리뷰 수와 함께 증감분만으로 계산하기 위해 유지합니다.
+    @Builder.Default
+    private BigDecimal scoreSum = new BigDecimal("0");
+
     @Builder.Default
     @OneToMany(mappedBy = "book")
     private List<Review> reviews = new ArrayList<>();
 
-    public void setScoreAvg(BigDecimal scoreAvg) {
-        this.scoreAvg = scoreAvg;
-    }
-
     public void addReview(Review review) {
         review.setBook(this);
         reviews.add(review);
         upReviewCnt();
+        scoreSum = currentScoreSum().add(review.getScore());
+        updateScoreAvg();
+    }
+
+    public void removeReview(Review review) {
+        downReviewCnt();
+        scoreSum = currentScoreSum().subtract(review.getScore());
+        updateScoreAvg();
+    }
+
+    public void changeScore(BigDecimal oldScore, BigDecimal newScore) {
+        scoreSum = currentScoreSum().subtract(oldScore).add(newScore);
+        updateScoreAvg();
+    }
+
+    /**
+     * 리뷰 테이블에서 다시 집계한 리뷰 수와 별점 합계로 보정합니다.
+     * @return 값이 달라 보정했으면 true
+     */
+    public boolean reconcile(int reviewCnt, BigDecimal scoreSum) {
+        BigDecimal expectedAvg = calcScoreAvg(reviewCnt, scoreSum);
+        if (this.reviewCnt == reviewCnt && this.scoreSum != null && this.scoreSum.compareTo(scoreSum) == 0
+                && scoreAvg != null && scoreAvg.compareTo(expectedAvg) == 0) {
+            return false;
+        }
+        this.reviewCnt = reviewCnt;
+        this.scoreSum = scoreSum;
+        this.scoreAvg = expectedAvg;
+        return true;
     }
 
     public void upReviewCnt() {
@@ -57,6 +88,25 @@ public class Book extends BaseTimeEntity {
         reviewCnt--;
     }
 
+    // 합계 컬럼이 추가되기 전의 책은 평점과 리뷰 수로 합계를 추정하며, 보정 작업에서 정확한 값으로 바뀝니다.
+    private BigDecimal currentScoreSum() {
+        if (scoreSum == null) {
+            return scoreAvg.multiply(BigDecimal.valueOf(reviewCnt));
+        }
+        return scoreSum;
+    }
+
+    private void updateScoreAvg() {
+        scoreAvg = calcScoreAvg(reviewCnt, scoreSum);
+    }
+
+    private static BigDecimal calcScoreAvg(int reviewCnt, BigDecimal scoreSum) {
+        if (reviewCnt <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return scoreSum.divide(BigDecimal.valueOf(reviewCnt), 2, RoundingMode.HALF_UP);
+    }
+
     public BookResponseData toBookResponseData() {
         return BookResponseData.builder()
                 .id(id)
@@ -56,6 +56,7 @@ public class Comment extends BaseTimeEntity {
                 .commentId(id)
                 .userProfile(user.toUserProfileData())
                 .content(content)
+                .heartCnt(heartCnt)
                 .createAt(getCreateAt())
                 .updateAt(getUpdateAt())
                 .build();
@@ -76,10 +77,6 @@ public class Comment extends BaseTimeEntity {
         this.content = content;
     }
 
-    public void updateHeart(int heartCnt) {
-        this.heartCnt = heartCnt;
-    }
-
 }
 
 
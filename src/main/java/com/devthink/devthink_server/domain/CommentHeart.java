@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_comment_heart_comment_user", columnNames = {"comment_id", "user_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
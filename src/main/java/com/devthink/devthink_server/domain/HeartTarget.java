@@ -0,0 +1,11 @@
+package com.devthink.devthink_server.domain;
+
+/**
+ * 좋아요를 누를 수 있는 대상의 종류입니다.
+ */
+public enum HeartTarget {
+    POST,
+    COMMENT,
+    REPLY,
+    REVIEW
+}
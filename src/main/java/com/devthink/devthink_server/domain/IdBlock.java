@@ -0,0 +1,35 @@
+package com.devthink.devthink_server.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 이름별로 다음에 나누어 줄 아이디를 저장합니다.
+ * 서버는 아이디를 한 블록씩 예약해 메모리에서 나누어 주므로, 이 행은 블록을 예약할 때만 잠그고 갱신합니다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdBlock {
+    @Id
+    private String name;
+
+    private Long nextValue;
+
+    /**
+     * size 개의 아이디를 예약하고 예약한 첫 아이디를 반환합니다.
+     * @param size 예약할 아이디 수
+     * @return Long 예약한 첫 아이디
+     */
+    public Long reserve(int size) {
+        Long start = nextValue;
+        nextValue += size;
+        return start;
+    }
+}
@@ -0,0 +1,91 @@
+package com.devthink.devthink_server.domain;
+
+import com.devthink.devthink_server.dto.LetterListData;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static javax.persistence.FetchType.LAZY;
+
+/**
+ * 사용자별 쪽지방 목록입니다. (사용자, 방)마다 한 행을 두고 마지막 쪽지와 안 읽은 쪽지 수를 유지합니다.
+ * 쪽지를 보내거나 읽을 때 갱신되므로, 쪽지 목록은 쪽지 테이블을 집계하지 않고 이 테이블만 조회합니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_inbox_user_room", columnNames = {"user_id", "roomId"}),
+        indexes = @Index(name = "idx_inbox_user_last_letter", columnList = "user_id, lastLetterId DESC"))
+public class Inbox {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    private User user;  // 목록의 주인
+
+    private Long roomId;    // 방 번호
+
+    @ManyToOne(fetch = LAZY)
+    private User otherUser; // 대화 상대
+
+    private Long lastLetterId;  // 마지막 쪽지
+
+    private Long lastSenderId;  // 마지막 쪽지를 보낸 사람
+
+    private String lastContent; // 마지막 쪽지 내용
+
+    private LocalDateTime lastCreateAt; // 마지막 쪽지 보낸 시각
+
+    @Builder.Default
+    private long unreadCount = 0L;  // 안 읽은 쪽지 수
+
+    /**
+     * 쪽지 한 통에 대한 보낸 사람, 받는 사람의 목록 행을 만듭니다.
+     * @param letter 쪽지
+     * @param user 목록의 주인
+     * @param otherUser 대화 상대
+     * @param unreadCount 안 읽은 쪽지 수
+     * @return Inbox 목록 행
+     */
+    public static Inbox of(Letter letter, User user, User otherUser, long unreadCount) {
+        return Inbox.builder()
+                .user(user)
+                .roomId(letter.getRoom().getRoomId())
+                .otherUser(otherUser)
+                .lastLetterId(letter.getId())
+                .lastSenderId(letter.getSender().getId())
+                .lastContent(letter.getContent())
+                .lastCreateAt(letter.getCreateAt())
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    /**
+     * 목록의 주인이 받은 쪽지인지 확인합니다.
+     * 자기 자신에게 보낸 쪽지는 받은 쪽지로 봅니다.
+     */
+    public static boolean isReceived(Letter letter, User user) {
+        return Objects.equals(letter.getTarget().getId(), user.getId());
+    }
+
+    public LetterListData toLetterListData() {
+        Long userId = user.getId();
+        Long otherId = otherUser.getId();
+        return LetterListData.builder()
+                .roomId(roomId)
+                .senderId(lastSenderId)
+                .targetId(Objects.equals(lastSenderId, userId) ? otherId : userId)
+                .content(lastContent)
+                .createAt(lastCreateAt)
+                .unRead(unreadCount)
+                .otherId(otherId)
+                .otherNick(otherUser.getNickname())
+                .profile(otherUser.getImageUrl())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.devthink.devthink_server.domain;
 
 import com.devthink.devthink_server.dto.LetterListData;
 import com.devthink.devthink_server.dto.LetterResultData;
+import com.devthink.devthink_server.dto.UserProfileData;
 import lombok.*;
 
 import javax.persistence.*;
@@ -13,6 +14,7 @@ import static javax.persistence.FetchType.LAZY;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_letter_room_id", columnList = "room_id, id DESC"))
 public class Letter extends BaseTimeEntity {
     @Id
     @GeneratedValue
@@ -35,12 +37,22 @@ public class Letter extends BaseTimeEntity {
     @Builder.Default
     private boolean heart = false;  // 하트 기능
 
-    public void setReadCheck(boolean readCheck) {
-        this.readCheck = readCheck;
+    public LetterResultData toLetterResultData() {
+        return toLetterResultData(sender.getNickname());
     }
 
-    public LetterResultData toLetterResultData() {
+    /**
+     * 발신자 닉네임으로 전달받은 프로필 스냅샷을 사용해 쪽지 정보를 생성합니다. 발신자를 DB에서 불러오지 않습니다.
+     * @param senderProfile 발신자의 프로필 스냅샷
+     * @return 변환 된 LetterResultData 객체
+     */
+    public LetterResultData toLetterResultData(UserProfileData senderProfile) {
+        return toLetterResultData(senderProfile.getNickname());
+    }
+
+    private LetterResultData toLetterResultData(String sendNick) {
         return LetterResultData.builder()
+                .id(id)
                 .readCheck(readCheck)
                 .createAt(getCreateAt())
                 .content(content)
@@ -48,7 +60,7 @@ public class Letter extends BaseTimeEntity {
                 .targetId(target.getId())
                 .heart(isHeart())
                 .targetNick(target.getNickname())
-                .sendNick(sender.getNickname())
+                .sendNick(sendNick)
                 .roomId(room.getRoomId())
                 .build();
     }
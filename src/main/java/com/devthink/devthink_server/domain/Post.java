@@ -3,6 +3,7 @@ package com.devthink.devthink_server.domain;
 import com.devthink.devthink_server.dto.PostListData;
 import com.devthink.devthink_server.dto.PostResponseData;
 import com.devthink.devthink_server.dto.ReviewDetailResponseData;
+import com.devthink.devthink_server.dto.UserProfileData;
 import lombok.*;
 
 import javax.persistence.*;
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_category_deleted_id", columnList = "category_id, deleted, id DESC"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -60,10 +62,6 @@ public class Post extends BaseTimeEntity {
         this.content = content;
     }
 
-    public void updateHeart(int heartCnt) {
-        this.heartCnt = heartCnt;
-    }
-
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
@@ -82,8 +80,33 @@ public class Post extends BaseTimeEntity {
     }
 
     public PostResponseData toPostResponseData(Boolean checkHeart) {
+        return toPostResponseData(checkHeart, comments);
+    }
+
+    /**
+     * 작성자 정보로 전달받은 프로필 스냅샷을 사용해 게시글 정보를 생성합니다. 작성자를 DB에서 불러오지 않습니다.
+     * @param checkHeart 사용자의 좋아요 여부
+     * @param userProfile 작성자의 프로필 스냅샷
+     * @return 변환 된 PostResponseData 객체
+     */
+    public PostResponseData toPostResponseData(Boolean checkHeart, UserProfileData userProfile) {
+        return toPostResponseData(checkHeart, userProfile, comments);
+    }
+
+    /**
+     * 별도로 조회한 댓글 리스트로 게시글 상세 정보를 생성합니다.
+     * 댓글, 답글, 작성자를 미리 함께 조회한 경우 지연 로딩 없이 변환할 수 있습니다.
+     * @param checkHeart 사용자의 좋아요 여부
+     * @param comments 게시글의 댓글 리스트
+     * @return 변환 된 PostResponseData 객체
+     */
+    public PostResponseData toPostResponseData(Boolean checkHeart, List<Comment> comments) {
+        return toPostResponseData(checkHeart, user.toUserProfileData(), comments);
+    }
+
+    private PostResponseData toPostResponseData(Boolean checkHeart, UserProfileData userProfile, List<Comment> comments) {
         return PostResponseData.builder()
-                .userProfile(user.toUserProfileData())
+                .userProfile(userProfile)
                 .imageUrl(imageUrl)
                 .id(id)
                 .categoryId(category.getId())
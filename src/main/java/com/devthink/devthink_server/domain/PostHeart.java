@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_heart_post_user", columnNames = {"post_id", "user_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -39,15 +39,12 @@ public class Reply extends BaseTimeEntity {
                 .replyId(id)
                 .userProfile(user.toUserProfileData())
                 .content(content)
+                .heartCnt(heartCnt)
                 .createAt(getCreateAt())
                 .updateAt(getUpdateAt())
                 .build();
     }
 
-    public void updateHeart(int heartCnt) {
-        this.heartCnt = heartCnt;
-    }
-
     public void setContent(String content) {
         this.content = content;
     }
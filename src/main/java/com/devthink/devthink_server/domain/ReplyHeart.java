@@ -8,6 +8,7 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reply_heart_reply_user", columnNames = {"reply_id", "user_id"}))
 @Builder
 public class ReplyHeart extends BaseTimeEntity{
     @Id
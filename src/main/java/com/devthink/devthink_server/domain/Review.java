@@ -69,10 +69,6 @@ public class Review extends BaseTimeEntity {
         this.deleted = deleted;
     }
 
-    public void updateHeart(int heartCnt) {
-        this.heartCnt = heartCnt;
-    }
-
     public ReviewResponseData toReviewResponseData() {
         return ReviewResponseData.builder()
                 .id(id)
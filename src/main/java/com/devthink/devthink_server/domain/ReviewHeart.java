@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_heart_review_user", columnNames = {"review_id", "user_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -0,0 +1,54 @@
+package com.devthink.devthink_server.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 토큰의 jti 입니다. 토큰이 만료되면 더 이상 검사할 필요가 없으므로 지웁니다.
+ * 같은 토큰을 두 번 폐기하면 기본키 충돌로 실패하도록 항상 새 행으로 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"),
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+})
+public class RevokedToken implements Persistable<String> {
+    @Id
+    private String jti;
+
+    private LocalDateTime expiresAt;    // 토큰 만료 시각
+
+    private LocalDateTime revokedAt;    // 폐기 시각
+
+    @Transient
+    private boolean loaded;
+
+    public RevokedToken(String jti, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !loaded;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markLoaded() {
+        loaded = true;
+    }
+}
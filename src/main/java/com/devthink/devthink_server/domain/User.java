@@ -18,7 +18,14 @@ import javax.persistence.*;
 @Entity
 @Builder
 @NoArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.NICKNAME_CONSTRAINT, columnNames = "nickname")})
 public class User extends BaseTimeEntity {
+    // 탈퇴한 사용자의 이메일, 닉네임도 다시 쓸 수 없습니다. (existsByEmail, existsByNickname 과 같은 기준)
+    public static final String EMAIL_CONSTRAINT = "uk_user_email";
+    public static final String NICKNAME_CONSTRAINT = "uk_user_nickname";
+
     @Id
     @GeneratedValue
     private Long id;
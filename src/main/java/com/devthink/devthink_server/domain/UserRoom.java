@@ -11,6 +11,8 @@ import static javax.persistence.FetchType.LAZY;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_room_pair", columnNames = {"lowUserId", "highUserId"}),
+        indexes = @Index(name = "idx_user_room_room_id", columnList = "roomId"))
 public class UserRoom extends BaseTimeEntity {
     @Id
     @GeneratedValue
@@ -24,6 +26,35 @@ public class UserRoom extends BaseTimeEntity {
 
     private Long roomId;
 
+    private Long lowUserId;     // 두 유저 아이디 중 작은 값
+
+    private Long highUserId;    // 두 유저 아이디 중 큰 값
+
     @Builder.Default
     private Boolean deleted = false;
-}
\ No newline at end of file
+
+    /**
+     * 두 유저의 방을 만듭니다. 두 유저 아이디의 (작은 값, 큰 값) 쌍으로 방이 하나만 만들어지도록 합니다.
+     * @param user1 방을 만든 유저
+     * @param user2 상대방 유저
+     * @param roomId 방 번호
+     * @return UserRoom 유저의 방
+     */
+    public static UserRoom of(User user1, User user2, Long roomId) {
+        return UserRoom.builder()
+                .user1(user1)
+                .user2(user2)
+                .roomId(roomId)
+                .lowUserId(Math.min(user1.getId(), user2.getId()))
+                .highUserId(Math.max(user1.getId(), user2.getId()))
+                .build();
+    }
+
+    /**
+     * 유저 쌍이 없는 기존 방에 유저 쌍을 채웁니다.
+     */
+    public void assignPair() {
+        lowUserId = Math.min(user1.getId(), user2.getId());
+        highUserId = Math.max(user1.getId(), user2.getId());
+    }
+}
@@ -30,6 +30,9 @@ public class CommentResponseData {
     @NotBlank
     private final String content;
 
+    @ApiModelProperty(value = "좋아요 수", example = "1")
+    private Integer heartCnt;
+
     @ApiModelProperty(value = "댓글 생성 시각", example = "")
     @CreatedDate
     private LocalDateTime createAt;
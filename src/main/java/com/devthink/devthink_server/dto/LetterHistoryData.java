@@ -0,0 +1,23 @@
+package com.devthink.devthink_server.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(value = "커서 기반 쪽지방 메시지 목록")
+public class LetterHistoryData {
+
+    @ApiModelProperty(notes = "메시지 목록 (최신순)")
+    @Builder.Default
+    private List<LetterResultData> letters = new ArrayList<>();
+
+    @ApiModelProperty(notes = "이전 메시지 요청 시 before로 전달할 커서, 마지막 페이지인 경우 null", example = "120")
+    private Long nextCursor;
+}
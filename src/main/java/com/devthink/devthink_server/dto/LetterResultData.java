@@ -13,6 +13,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 public class LetterResultData {
+    @ApiModelProperty(notes = "메시지 아이디", example = "1")
+    private Long id;
+
     @ApiModelProperty(notes = "방 번호", example = "1")
     private Long roomId;
 
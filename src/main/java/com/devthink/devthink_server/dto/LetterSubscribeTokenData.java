@@ -0,0 +1,16 @@
+package com.devthink.devthink_server.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LetterSubscribeTokenData {
+    @ApiModelProperty(notes = "쪽지 알림 구독에 한 번만 쓸 수 있는 토큰", example = "Yk9x0m2V3n5q8r1t4w7z0c3f6h9k2m5p8s1v4y7b0e3")
+    private String token;
+}
@@ -0,0 +1,16 @@
+package com.devthink.devthink_server.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LetterUnreadData {
+    @ApiModelProperty(notes = "전체 안 읽은 쪽지 수", example = "3")
+    private Long unreadCount;
+}
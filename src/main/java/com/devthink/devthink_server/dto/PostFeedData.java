@@ -0,0 +1,23 @@
+package com.devthink.devthink_server.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(value = "커서 기반 카테고리별 게시글 목록")
+public class PostFeedData {
+
+    @ApiModelProperty(notes = "게시글 목록")
+    @Builder.Default
+    private List<PostListData> posts = new ArrayList<>();
+
+    @ApiModelProperty(notes = "다음 페이지 요청 시 afterId로 전달할 커서, 마지막 페이지인 경우 null", example = "120")
+    private Long nextCursor;
+}
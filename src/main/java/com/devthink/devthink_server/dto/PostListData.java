@@ -35,4 +35,13 @@ public class PostListData {
 
     @ApiModelProperty(notes = "업데이트 시각", example = "2022-01-26T22:07:17.0831141")
     private LocalDateTime updateAt;
+
+    @ApiModelProperty(notes = "로그인한 사용자의 좋아요 여부, 비로그인 시 null", example = "true")
+    private Boolean heartPresent;
+
+    // 목록 조회 쿼리(PostRepository.LIST_DATA)에서 사용하는 생성자입니다.
+    public PostListData(Long id, Long userId, String nickname, String imageUrl, String title, Integer heartCnt,
+                        LocalDateTime createAt, LocalDateTime updateAt) {
+        this(id, userId, nickname, imageUrl, title, heartCnt, createAt, updateAt, null);
+    }
 }
@@ -0,0 +1,12 @@
+package com.devthink.devthink_server.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiParam;
+import lombok.Getter;
+
+@Getter
+@ApiModel("리프레시 토큰 정보")
+public class SessionRefreshData {
+    @ApiParam(value = "로그인 또는 재발급 시 받은 리프레시 토큰", required = true)
+    private String refreshToken;
+}
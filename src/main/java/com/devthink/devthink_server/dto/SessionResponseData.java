@@ -9,4 +9,6 @@ import lombok.Getter;
 @Builder
 public class SessionResponseData {
     private String accessToken;
+
+    private String refreshToken;
 }
@@ -0,0 +1,7 @@
+package com.devthink.devthink_server.errors;
+
+public class LoginRateLimitException extends RuntimeException {
+    public LoginRateLimitException() {
+        super("Too many login attempts");
+    }
+}
@@ -0,0 +1,7 @@
+package com.devthink.devthink_server.errors;
+
+public class PasswordHashBusyException extends RuntimeException {
+    public PasswordHashBusyException() {
+        super("Too many password hashing requests");
+    }
+}
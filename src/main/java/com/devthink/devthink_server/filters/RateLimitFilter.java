@@ -0,0 +1,89 @@
+package com.devthink.devthink_server.filters;
+
+import com.devthink.devthink_server.security.UserAuthentication;
+import com.devthink.devthink_server.utils.AdaptiveConcurrencyLimit;
+import com.devthink.devthink_server.utils.ClientIpResolver;
+import com.devthink.devthink_server.utils.ExpiringLruCache;
+import com.devthink.devthink_server.utils.TokenBucket;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청 수를 제한합니다. 제한을 넘으면 컨트롤러를 거치지 않고 429 와 Retry-After(초)를 응답합니다.
+ * - 사용자별 토큰 버킷: 로그인한 사용자는 유저 아이디, 비로그인 요청은 클라이언트 IP 를 키로 사용합니다.
+ * - 동시 처리 상한: 응답 시간에 따라 AIMD 로 조절되며, 상한에 도달하면 바로 거절합니다.
+ * 경로별 제한은 매핑된 경로 패턴이 필요하므로 RouteRateLimitInterceptor 에서 확인합니다.
+ * 토큰 버킷은 크기와 유효 시간이 제한된 LRU 에 보관하므로 키가 많아져도 메모리가 늘어나지 않습니다.
+ * 유효 시간은 마지막 요청부터 다시 세므로, 계속 요청하는 키의 버킷이 중간에 가득 찬 새 버킷으로 바뀌지 않습니다.
+ * 비동기 요청(SSE)은 요청 스레드를 반납할 때까지만 동시 처리 수에 포함됩니다.
+ * 인증된 사용자를 알아야 하므로 JwtAuthenticationFilter 다음에 둡니다.
+ */
+public class RateLimitFilter extends HttpFilter {
+    private static final long BUCKET_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1;
+
+    private final int userBurst;
+    private final double userPerSecond;
+    private final ExpiringLruCache<String, TokenBucket> userBuckets;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ClientIpResolver clientIpResolver;
+
+    public RateLimitFilter(int userBurst, double userPerSecond, int maxKeys,
+                           AdaptiveConcurrencyLimit concurrencyLimit, ClientIpResolver clientIpResolver) {
+        this.userBurst = userBurst;
+        this.userPerSecond = userPerSecond;
+        this.userBuckets = new ExpiringLruCache<>(maxKeys, BUCKET_IDLE_MILLIS, true);
+        this.concurrencyLimit = concurrencyLimit;
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response,
+                            FilterChain chain) throws IOException, ServletException {
+        // 비동기 응답, 에러 페이지로 다시 들어오는 요청은 이미 한 번 확인했습니다.
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long now = System.nanoTime();
+        long waitNanos = userBuckets.computeIfAbsent(userKey(request),
+                key -> new TokenBucket(userBurst, userPerSecond, now)).tryConsume(now);
+        if (waitNanos > 0) {
+            reject(response, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            reject(response, CONCURRENCY_RETRY_AFTER_SECONDS);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long end = System.nanoTime();
+            concurrencyLimit.release(end - now, end);
+        }
+    }
+
+    private String userKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UserAuthentication) {
+            return "user:" + ((UserAuthentication) authentication).getUserId();
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+}
@@ -4,17 +4,20 @@ import com.devthink.devthink_server.domain.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
     Book save(Book book);
 
@@ -26,18 +29,37 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     // 리뷰 수가 가장 많은 책을 가져옵니다.
     Optional<Book> findTopByOrderByReviewCntDesc();
 
-    // 주어진 책 id값에 대한 리뷰들의 평점을 계산하여 가져옵니다.
-    @Query("select avg(score) from Review where book.id = :id and deleted = false")
-    BigDecimal calcScoreAvg(@Param("id") Long id);
+    // 주어진 책들의 삭제되지 않은 리뷰 수와 별점 합계를 가져옵니다. (평점 보정용)
+    @Query("select r.book.id as bookId, count(r) as reviewCnt, sum(r.score) as scoreSum from Review r " +
+            "where r.book.id in :bookIds and r.deleted = false group by r.book.id")
+    List<ReviewScore> sumScoresByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
 
-    // 책 이름에 검색어가 포함 된 책 리스트를 pageable 규칙에 따라 가져옵니다.
-    Page<Book> findAllByNameContaining(String search, Pageable pageable);
+    // 검색 색인 생성을 위해 책을 id 순으로 나누어 가져옵니다.
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
-    // start 부터 end 까지 작성 된 리뷰가 가장 많은 5개의 책 리스트를 가져옵니다.
-   @Query("select b from Book b join Review r on b.id = r.book.id " +
-           "where (r.createAt between :start and :end ) and r.deleted = false " +
-           "group by r.book.id " +
-           "order by count(r) desc")
-    List<Book> findTop5InPeriod(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+    // 평점 보정 중 리뷰가 작성되어 증감분이 덮어써지지 않도록 책을 id 순으로 나누어 잠그고 가져옵니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Book b where b.id > :id order by b.id asc")
+    List<Book> findForUpdateByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    // start 부터 end 전까지 작성 된 리뷰 수를 책별로 가져옵니다.
+    @Query("select r.book.id as bookId, count(r) as reviewCnt from Review r " +
+            "where r.createAt >= :start and r.createAt < :end and r.deleted = false " +
+            "group by r.book.id")
+    List<ReviewCount> countReviewsInPeriod(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    interface ReviewCount {
+        Long getBookId();
+
+        Long getReviewCnt();
+    }
+
+    interface ReviewScore {
+        Long getBookId();
+
+        Long getReviewCnt();
+
+        BigDecimal getScoreSum();
+    }
 
 }
@@ -0,0 +1,13 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.Book;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * 책의 행을 쓰기 잠금하고, 잠근 시점의 값으로 책을 다시 읽어옵니다.
+     * 이미 읽어 둔 책이어도 다른 트랜잭션이 먼저 반영한 리뷰 수와 별점 합계를 보고 증감분을 더하게 됩니다.
+     * @param book 잠글 책
+     */
+    void lockForUpdate(Book book);
+}
@@ -0,0 +1,19 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.Book;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void lockForUpdate(Book book) {
+        // 잠금만 걸면 영속성 컨텍스트에 있던 예전 값을 그대로 쓰게 되므로, 잠그면서 다시 읽습니다.
+        entityManager.refresh(book, LockModeType.PESSIMISTIC_WRITE);
+    }
+}
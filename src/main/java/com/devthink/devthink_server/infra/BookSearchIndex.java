@@ -0,0 +1,75 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.application.BookCreatedEvent;
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.utils.NgramIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 책 이름과 저자를 n-gram 으로 색인하는 메모리 검색 색인입니다.
+ * 서버 시작 시 전체 책으로 색인을 만들고, 책 등록이 커밋되면 갱신합니다.
+ */
+@Component
+public class BookSearchIndex {
+    private static final int LOAD_SIZE = 1000;
+    private static final int NAME_WEIGHT = 2;
+    private static final int WRITER_WEIGHT = 1;
+
+    private final BookRepository bookRepository;
+    private final NgramIndex index = new NgramIndex();
+
+    public BookSearchIndex(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * 전체 책을 id 순으로 나누어 읽어 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Long lastId = 0L;
+        List<Book> books;
+        do {
+            books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_SIZE));
+            books.forEach(this::put);
+            if (!books.isEmpty()) {
+                lastId = books.get(books.size() - 1).getId();
+            }
+        } while (books.size() == LOAD_SIZE);
+    }
+
+    /**
+     * 등록이 커밋된 책을 색인합니다. 롤백되면 호출되지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void bookCreated(BookCreatedEvent event) {
+        put(event.getBook());
+    }
+
+    /**
+     * 책을 색인하거나 기존 색인을 교체합니다.
+     * @param book 색인할 책
+     */
+    public void put(Book book) {
+        index.put(book.getId(),
+                NgramIndex.field(book.getName(), NAME_WEIGHT),
+                NgramIndex.field(book.getWriter(), WRITER_WEIGHT));
+    }
+
+    /**
+     * 이름 또는 저자에 검색어가 포함된 책 중 관련도가 높은 limit 개의 식별자와 전체 개수를 반환합니다.
+     * @param search 검색어
+     * @param limit 반환할 최대 책 수
+     * @return 관련도 순 책 식별자와 전체 개수
+     */
+    public NgramIndex.Hits search(String search, int limit) {
+        return index.search(search, limit);
+    }
+}
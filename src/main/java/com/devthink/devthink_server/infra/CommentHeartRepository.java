@@ -3,15 +3,27 @@ package com.devthink.devthink_server.infra;
 import com.devthink.devthink_server.domain.CommentHeart;
 import com.devthink.devthink_server.domain.ReviewHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface CommentHeartRepository extends JpaRepository<CommentHeart, Long> {
     CommentHeart save(ReviewHeart reviewHeart);
 
-    Optional<CommentHeart> findByCommentId(Long commentId);
+    // 전달된 댓글 중 사용자가 좋아요한 댓글 식별자를 가져옵니다.
+    @Query("select h.comment.id from CommentHeart h where h.user.id = :userId and h.comment.id in :commentIds")
+    List<Long> findHeartedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 
-    boolean existsByCommentIdAndUserId(Long commentId, Long userId);
+    // 사용자의 댓글 좋아요를 한 번의 쿼리로 삭제하고, 삭제된 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from CommentHeart h where h.comment.id = :commentId and h.user.id = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 }
@@ -2,9 +2,12 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +25,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostId(@Param(value = "postIdx") Long postId);
 
+    // 게시글의 댓글을 작성자, 답글, 답글 작성자와 함께 한 번에 가져옵니다. 댓글과 답글은 작성 순서로 정렬합니다.
+    @Query("select distinct c from Comment c join fetch c.user " +
+            "left join fetch c.replys r left join fetch r.user " +
+            "where c.post.id = :postId order by c.id, r.id")
+    List<Comment> findAllWithReplysByPostId(@Param(value = "postId") Long postId);
+
     List<Comment> findByReviewId(@Param(value = "reviewId") Long reviewId);
+
+    // 전달된 댓글들의 좋아요 수에 변경분을 더합니다.
+    @Modifying
+    @Query("update Comment c set c.heartCnt = c.heartCnt + :delta where c.id in :ids")
+    int addHeartCnt(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
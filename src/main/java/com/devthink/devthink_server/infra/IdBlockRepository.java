@@ -0,0 +1,20 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.IdBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+
+    // 아이디 블록을 예약하는 동안 다른 서버가 같은 블록을 예약하지 못하도록 행을 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from IdBlock b where b.name = :name")
+    Optional<IdBlock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,59 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.Inbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InboxRepository extends JpaRepository<Inbox, Long> {
+
+    // 사용자의 쪽지방 목록을 상대방 프로필과 함께 최근 쪽지 순으로 가져옵니다.
+    @Query("select i from Inbox i join fetch i.otherUser where i.user.id = :userId order by i.lastLetterId desc")
+    List<Inbox> findInbox(@Param("userId") Long userId);
+
+    // 유저별 전체 안 읽은 쪽지 수를 가져옵니다. (안 읽은 쪽지 수 캐시를 만들 때 사용)
+    @Query("select i.user.id as userId, sum(i.unreadCount) as unreadCnt from Inbox i " +
+            "where i.unreadCount > 0 group by i.user.id")
+    List<UnreadCount> sumUnreadByUser();
+
+    // 안 읽은 쪽지 수를 더하고, 더 최근 쪽지인 경우에만 마지막 쪽지를 갱신합니다. 목록 행이 없으면 0을 반환합니다.
+    // 늦게 커밋된 이전 쪽지가 최신 쪽지를 덮어쓰지 않도록 합니다.
+    // MariaDB 는 앞에서 바꾼 컬럼 값을 뒤의 식에서 읽으므로, 조건에 쓰는 lastLetterId 를 마지막에 바꿉니다.
+    @Transactional
+    @Modifying
+    @Query("update Inbox i set " +
+            "i.lastSenderId = case when (i.lastLetterId is null or i.lastLetterId < :letterId) " +
+            "then :senderId else i.lastSenderId end, " +
+            "i.lastContent = case when (i.lastLetterId is null or i.lastLetterId < :letterId) " +
+            "then :content else i.lastContent end, " +
+            "i.lastCreateAt = case when (i.lastLetterId is null or i.lastLetterId < :letterId) " +
+            "then :createAt else i.lastCreateAt end, " +
+            "i.unreadCount = i.unreadCount + :unread, " +
+            "i.lastLetterId = case when (i.lastLetterId is null or i.lastLetterId < :letterId) " +
+            "then :letterId else i.lastLetterId end " +
+            "where i.user.id = :userId and i.roomId = :roomId")
+    int updateLastLetter(@Param("userId") Long userId, @Param("roomId") Long roomId,
+                         @Param("letterId") Long letterId, @Param("senderId") Long senderId,
+                         @Param("content") String content, @Param("createAt") LocalDateTime createAt,
+                         @Param("unread") long unread);
+
+    // 읽음 처리된 쪽지 수만큼 안 읽은 쪽지 수를 줄입니다. 읽는 동안 도착한 쪽지는 그대로 남습니다.
+    @Transactional
+    @Modifying
+    @Query("update Inbox i set i.unreadCount = case when i.unreadCount > :read then (i.unreadCount - :read) else 0 end " +
+            "where i.user.id = :userId and i.roomId = :roomId")
+    int decreaseUnread(@Param("userId") Long userId, @Param("roomId") Long roomId, @Param("read") long read);
+
+    interface UnreadCount {
+        Long getUserId();
+
+        Long getUnreadCnt();
+    }
+}
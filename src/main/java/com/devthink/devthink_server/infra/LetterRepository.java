@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.persistence.ManyToOne;
 import javax.transaction.Transactional;
@@ -15,23 +16,36 @@ import java.util.List;
 
 public interface LetterRepository extends JpaRepository<Letter, Long> {
 
-    // 방 별 메시지 리스트 가져오기
-    @Query("select u from Letter u where u.id " +
-            "in (select max(p.id) from Letter p group by p.room.roomId) " +
+    // 방 별 마지막 메시지 가져오기 (쪽지방 목록을 처음 만들 때 사용)
+    @Query("select u from Letter u join fetch u.room join fetch u.sender join fetch u.target where u.id " +
+            "in (select max(p.id) from Letter p group by p.room.roomId)")
+    List<Letter> findLastLetters();
+
+    // 받는 사람, 방 별 안읽은 메시지 개수 가져오기 (쪽지방 목록을 처음 만들 때 사용)
+    @Query("select u.target.id as userId, u.room.roomId as roomId, count(u.id) as unreadCnt from Letter u " +
+            "where u.readCheck = false group by u.target.id, u.room.roomId")
+    List<UnreadCount> countUnreadByRoom();
+
+    // 커서(before)보다 작은 id의 방 메시지를 (room_id, id) 인덱스 범위로 보낸 사람, 받는 사람과 함께 가져옵니다.
+    @Query("select u from Letter u join fetch u.room join fetch u.sender join fetch u.target " +
+            "where u.room.id = :userRoomId and u.id < :before " +
             "and (u.sender.id = :userId or u.target.id = :userId) order by u.id desc")
-    List<Letter> getMessageList(Long userId);
+    List<Letter> findHistory(@Param("userId") Long userId, @Param("userRoomId") Long userRoomId,
+                             @Param("before") Long before, Pageable pageable);
+
 
-    // 안읽은 메시지 개수 가져오기
-    @Query("select count(u.id) from Letter u where u.target.id = :userId and u.readCheck = false and u.room.roomId=:roomId")
-    Long countUnread(Long userId, Long roomId);
+    // 받은 메시지를 한 번의 쿼리로 읽음 처리하고, 읽음 처리된 메시지 수를 반환합니다.
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Letter u set u.readCheck = true where u.target.id = :userId and u.readCheck = false " +
+            "and u.room.id in (select r.id from UserRoom r where r.roomId = :roomId)")
+    int markRead(@Param("userId") Long userId, @Param("roomId") Long roomId);
 
-    // 메시지 내용 가져오기
-    @Query("select u from Letter u where u.room.roomId = :roomId and " +
-            "(u.sender.id = :userId or u.target.id = :userId)")
-    List<Letter> getRoomLists(Long userId, Long roomId);
+    interface UnreadCount {
+        Long getUserId();
 
+        Long getRoomId();
 
-    @Query("select u from Letter u where u.room.roomId = :roomId and " +
-            "u.target.id = :userId and u.readCheck = false")
-    List<Letter> getUnReadLists(Long userId, Long roomId);
+        Long getUnreadCnt();
+    }
 }
@@ -2,15 +2,26 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.PostHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PostHeartRepository extends JpaRepository<PostHeart, Long> {
     PostHeart save(PostHeart postHeart);
 
-    Optional<PostHeart> findByPostIdAndUserId(Long postId, Long userId);
+    // 전달된 게시글 중 사용자가 좋아요한 게시글 식별자를 가져옵니다.
+    @Query("select h.post.id from PostHeart h where h.user.id = :userId and h.post.id in :postIds")
+    List<Long> findHeartedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 
-    boolean existsByPostIdAndUserId(Long postId, Long userId);
+    // 사용자의 게시글 좋아요를 한 번의 쿼리로 삭제하고, 삭제된 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from PostHeart h where h.post.id = :postId and h.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
 }
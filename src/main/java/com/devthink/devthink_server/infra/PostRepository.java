@@ -1,28 +1,53 @@
 package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.Post;
-import com.devthink.devthink_server.domain.Review;
-import org.springframework.data.domain.Page;
+import com.devthink.devthink_server.dto.PostListData;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    List<Post> findByCategory_IdAndTitleContainingAndDeletedIsFalseOrderByIdDesc(Long categoryId, String keyword);
+    // 게시글 목록 조회 시 엔티티 대신 PostListData 로 바로 조회하기 위한 생성자 표현식
+    String LIST_DATA = "new com.devthink.devthink_server.dto.PostListData(" +
+            "p.id, u.id, u.nickname, p.imageUrl, p.title, p.heartCnt, p.createAt, p.updateAt)";
 
-    @Query("select p from Post p where p.category.id = :category order by p.id desc")
-    List<Post> findByDeletedIsFalseOrderByIdDesc(Long category);
+    // 전달된 식별자의 게시글을 작성자와 조인하여 목록 데이터로 가져옵니다.
+    @Query("select " + LIST_DATA + " from Post p join p.user u " +
+            "where p.id in :ids and p.deleted = false")
+    List<PostListData> findListDataByIdIn(Collection<Long> ids);
+
+    // 전달된 게시글들의 좋아요 수에 변경분을 더합니다.
+    @Modifying
+    @Query("update Post p set p.heartCnt = p.heartCnt + :delta where p.id in :ids")
+    int addHeartCnt(Collection<Long> ids, int delta);
+
+    // 검색 색인 생성을 위해 삭제되지 않은 게시글을 id 순으로 나누어 가져옵니다.
+    List<Post> findByDeletedIsFalseAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 커서(afterId)보다 작은 id의 카테고리별 게시글을 (category_id, deleted, id) 인덱스 범위로 가져옵니다.
+    @Query("select " + LIST_DATA + " from Post p join p.user u " +
+            "where p.category.id = :categoryId and p.deleted = false " +
+            "and p.id < :afterId order by p.id desc")
+    List<PostListData> findFeed(Long categoryId, Long afterId, Pageable pageable);
 
     Post save(Post post);
 
     Optional<Post> findByIdAndDeletedIsFalse(Long Id);
 
-    @Query("select p from Post p where (p.createAt between :start and :end) " +
-            "and p.category.id = :category and p.deleted = false")
-    List<Post> getBestPost(Long category, LocalDateTime start, LocalDateTime end, Pageable pageable);
+    // 게시글 상세 조회 시 작성자와 카테고리를 함께 가져옵니다.
+    @Query("select p from Post p join fetch p.user join fetch p.category " +
+            "where p.id = :id and p.deleted = false")
+    Optional<Post> findDetailById(Long id);
+
+    // 전달된 시각 이후 작성된 카테고리별 게시글을 가져옵니다. (베스트 게시글 후보)
+    @Query("select " + LIST_DATA + " from Post p join p.user u " +
+            "where p.category.id = :categoryId and p.createAt >= :start and p.deleted = false")
+    List<PostListData> findListDataCreatedSince(Long categoryId, LocalDateTime start);
 }
@@ -0,0 +1,105 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.application.PostCreatedEvent;
+import com.devthink.devthink_server.application.PostDeletedEvent;
+import com.devthink.devthink_server.application.PostUpdatedEvent;
+import com.devthink.devthink_server.domain.Post;
+import com.devthink.devthink_server.utils.NgramIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 제목, 부제목, 내용을 색인하는 메모리 검색 색인입니다.
+ * 서버 시작 시 삭제되지 않은 게시글로 색인을 만들고, 게시글 작성/수정/삭제가 커밋되면 갱신합니다.
+ * 카테고리별로 나누어 색인하며, 내용은 길이가 길어 2글자 n-gram 으로만 색인합니다.
+ */
+@Component
+public class PostSearchIndex {
+    private static final int LOAD_SIZE = 1000;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUB_TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+    private final NgramIndex index = new NgramIndex();
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 삭제되지 않은 전체 게시글을 id 순으로 나누어 읽어 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Long lastId = 0L;
+        List<Post> posts;
+        do {
+            posts = postRepository.findByDeletedIsFalseAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_SIZE));
+            posts.forEach(this::put);
+            if (!posts.isEmpty()) {
+                lastId = posts.get(posts.size() - 1).getId();
+            }
+        } while (posts.size() == LOAD_SIZE);
+    }
+
+    /**
+     * 작성이 커밋된 게시글을 색인합니다. 롤백되면 호출되지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void postCreated(PostCreatedEvent event) {
+        put(event.getPost());
+    }
+
+    /**
+     * 수정이 커밋된 게시글의 색인을 교체합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void postUpdated(PostUpdatedEvent event) {
+        put(event.getPost());
+    }
+
+    /**
+     * 삭제가 커밋된 게시글을 색인에서 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void postDeleted(PostDeletedEvent event) {
+        remove(event.getPostId());
+    }
+
+    /**
+     * 게시글을 색인하거나 기존 색인을 교체합니다.
+     * @param post 색인할 게시글
+     */
+    public void put(Post post) {
+        index.put(post.getId(), post.getCategory().getId(),
+                NgramIndex.field(post.getTitle(), TITLE_WEIGHT),
+                NgramIndex.field(post.getSubTitle(), SUB_TITLE_WEIGHT),
+                NgramIndex.longField(post.getContent(), CONTENT_WEIGHT));
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     * @param postId 제거할 게시글 식별자
+     */
+    public void remove(Long postId) {
+        index.remove(postId);
+    }
+
+    /**
+     * 카테고리 내에서 검색어를 포함한 게시글 중 관련도가 높은 limit 개의 식별자와 전체 개수를 반환합니다.
+     * @param categoryId 카테고리 식별자
+     * @param keyword 검색어
+     * @param limit 반환할 최대 게시글 수
+     * @return 관련도 순 게시글 식별자와 전체 개수
+     */
+    public NgramIndex.Hits search(Long categoryId, String keyword, int limit) {
+        return index.search(categoryId, keyword, limit);
+    }
+}
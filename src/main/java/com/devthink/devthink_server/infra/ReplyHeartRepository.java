@@ -2,16 +2,26 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.ReplyHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ReplyHeartRepository extends JpaRepository<ReplyHeart, Long> {
-
-    boolean existsByReplyIdAndUserId(Long replyId, Long userId);
-
     ReplyHeart save(ReplyHeart replyHeart);
 
-    Optional<ReplyHeart> findByReplyIdAndUserId(Long replyId, Long userId);
+    // 전달된 답글 중 사용자가 좋아요한 답글 식별자를 가져옵니다.
+    @Query("select h.reply.id from ReplyHeart h where h.user.id = :userId and h.reply.id in :replyIds")
+    List<Long> findHeartedReplyIds(@Param("userId") Long userId, @Param("replyIds") Collection<Long> replyIds);
+
+    // 사용자의 답글 좋아요를 한 번의 쿼리로 삭제하고, 삭제된 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from ReplyHeart h where h.reply.id = :replyId and h.user.id = :userId")
+    int deleteByReplyIdAndUserId(@Param("replyId") Long replyId, @Param("userId") Long userId);
 }
@@ -2,9 +2,12 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +23,9 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     List<Reply> findByCommentId(@Param(value = "commentId") Long commentId);
 
+    // 전달된 답글들의 좋아요 수에 변경분을 더합니다.
+    @Modifying
+    @Query("update Reply r set r.heartCnt = r.heartCnt + :delta where r.id in :ids")
+    int addHeartCnt(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 
 }
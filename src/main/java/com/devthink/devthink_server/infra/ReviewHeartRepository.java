@@ -2,15 +2,26 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.ReviewHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ReviewHeartRepository extends JpaRepository<ReviewHeart, Long> {
     ReviewHeart save(ReviewHeart reviewHeart);
 
-    Optional<ReviewHeart> findByReviewId(Long reviewId);
+    // 전달된 리뷰 중 사용자가 좋아요한 리뷰 식별자를 가져옵니다.
+    @Query("select h.review.id from ReviewHeart h where h.user.id = :userId and h.review.id in :reviewIds")
+    List<Long> findHeartedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
 
-    boolean existsByReviewIdAndUserId(Long reviewId, Long userId);
+    // 사용자의 리뷰 좋아요를 한 번의 쿼리로 삭제하고, 삭제된 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from ReviewHeart h where h.review.id = :reviewId and h.user.id = :userId")
+    int deleteByReviewIdAndUserId(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
 }
@@ -2,8 +2,12 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Optional<Review> findByIdAndDeletedIsFalse(Long reviewId);
 
+    // 전달된 리뷰들의 좋아요 수에 변경분을 더합니다.
+    @Modifying
+    @Query("update Review r set r.heartCnt = r.heartCnt + :delta where r.id in :ids")
+    int addHeartCnt(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
 }
@@ -0,0 +1,28 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 아직 만료되지 않은 폐기 토큰을 가져옵니다. (시작 시 폐기 목록을 만들 때 사용)
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 다른 서버에서 폐기한 토큰을 가져옵니다.
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(LocalDateTime revokedAt, LocalDateTime now);
+
+    // 만료된 폐기 토큰을 한 번의 쿼리로 지웁니다.
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,9 +2,14 @@ package com.devthink.devthink_server.infra;
 
 import com.devthink.devthink_server.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,11 +26,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String userNickName);
 
-    @Query("select u.imageUrl from User u where u.id = :id")
-    String findImageUrlById(Long id);
+    Optional<User> findByNicknameAndDeletedIsFalse(String userNickName);
 
-    @Query("select u.nickname from User u where u.id = :id")
-    String findNicknameById(Long id);
+    // 로그인할 때 다시 해시한 비밀번호를 한 번의 쿼리로 저장합니다. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않습니다.
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id and u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                       @Param("password") String password);
 
-    Optional<User> findByNicknameAndDeletedIsFalse(String userNickName);
+    // 이메일, 닉네임 중복 확인용 블룸 필터를 만들 때 사용합니다. 탈퇴한 사용자도 포함합니다.
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
+
+    @Query("select u.nickname from User u")
+    List<String> findAllNicknames();
+
+    // 다른 서버에서 가입하거나 닉네임을 바꾼 사용자를 블룸 필터에 반영할 때 사용합니다.
+    @Query("select u.email as email, u.nickname as nickname from User u where u.updateAt >= :since")
+    List<UserName> findNamesUpdatedSince(@Param("since") LocalDateTime since);
+
+    interface UserName {
+        String getEmail();
+
+        String getNickname();
+    }
 }
@@ -5,8 +5,11 @@ import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.domain.UserRoom;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,26 +18,29 @@ public interface UserRoomRepository extends JpaRepository<UserRoom, Long> {
 
     Optional<UserRoom> findByRoomIdAndDeletedIsFalse(Long roomId);
 
+    // 같은 방의 쪽지를 차례로 처리하도록 방 행을 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from UserRoom u where u.id = :id")
+    Optional<UserRoom> findForUpdate(@Param("id") Long id);
+
     @Query("select u from UserRoom u where ((u.user1.id = :targetId and u.user2.id = :senderId)" +
             "or (u.user2.id = :targetId and u.user1.id = :senderId)) and u.roomId = :roomId")
     Optional<UserRoom> getUserRoom(Long targetId, Long senderId, Long roomId);
 
-    // 메시지 테이블의 방번호 최댓값 가져오기
+    // 유저 쌍의 방 가져오기 (lowUserId, highUserId 유니크 인덱스 조회)
+    Optional<UserRoom> findByLowUserIdAndHighUserId(Long lowUserId, Long highUserId);
+
+    // 방번호 최댓값 가져오기 (방번호 블록을 처음 만들 때만 사용)
     @Query("select max(u.roomId) from UserRoom u")
     Long maxRoom();
 
+    // 유저 쌍이 채워지지 않은 기존 방 가져오기
+    List<UserRoom> findByLowUserIdIsNullOrderByIdAsc();
+
     @Query("select u from UserRoom u where (u.user1.id = :targetId or u.user2.id = :targetId) " +
             "and u.roomId = :roomId")
     List<UserRoom> getRoomId(Long targetId, Long roomId, Pageable pageable);
 
-    @Query("select count(u.id) from UserRoom u " +
-            "where (u.user1.id = :senderId and u.user2.id = :targetId) or (u.user2.id = :senderId and u.user1.id = :targetId)")
-    int existChat(Long senderId, Long targetId);
-
-    @Query("select u from UserRoom u where (u.user1.id = :targetId " +
-            "and u.user2.id = :senderId) or (u.user2.id = :targetId and u.user1.id = :senderId)")
-    List<UserRoom> selectRoom(Long targetId, Long senderId, Pageable pageable);
-
     @Query("select u from UserRoom u where (u.user1.id = :userId or u.user2.id = :userId)")
     List<UserRoom> findRoomId(Long userId);
 
@@ -0,0 +1,51 @@
+package com.devthink.devthink_server.interceptors;
+
+import com.devthink.devthink_server.utils.ExpiringLruCache;
+import com.devthink.devthink_server.utils.TokenBucket;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 사용자의 요청을 합쳐 API 경로별로 요청 수를 제한합니다. (토큰 버킷)
+ * 요청 URI 가 아닌 컨트롤러에 매핑된 경로 패턴(예: GET /users/emailCheck/{userEmail})을 키로 사용하므로,
+ * 경로에 들어가는 값이 바뀌어도 같은 버킷을 씁니다. 패턴은 핸들러를 찾은 뒤에 알 수 있으므로 필터가 아닌 인터셉터에서 확인합니다.
+ * 사용자별 제한과 동시 처리 상한은 RateLimitFilter 가 먼저 확인합니다.
+ */
+public class RouteRateLimitInterceptor implements HandlerInterceptor {
+    private static final long BUCKET_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final int burst;
+    private final double perSecond;
+    private final ExpiringLruCache<String, TokenBucket> buckets;
+
+    public RouteRateLimitInterceptor(int burst, double perSecond, int maxKeys) {
+        this.burst = burst;
+        this.perSecond = perSecond;
+        this.buckets = new ExpiringLruCache<>(maxKeys, BUCKET_IDLE_MILLIS, true);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws IOException {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long waitNanos = buckets.computeIfAbsent(request.getMethod() + " " + pattern,
+                key -> new TokenBucket(burst, perSecond, now)).tryConsume(now);
+        if (waitNanos == 0) {
+            return true;
+        }
+        long second = TimeUnit.SECONDS.toNanos(1);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, (waitNanos + second - 1) / second)));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+}
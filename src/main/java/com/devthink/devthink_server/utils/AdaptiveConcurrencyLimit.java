@@ -0,0 +1,96 @@
+package com.devthink.devthink_server.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 시간에 따라 동시에 처리하는 요청 수의 상한을 조절합니다. (AIMD)
+ * 응답이 목표 시간 안에 끝나면 상한을 요청 상한 수만큼의 응답마다 1씩 올리고,
+ * 목표 시간을 넘기면 상한을 backoff 비율로 줄입니다. 같은 혼잡으로 여러 번 줄이지 않도록 목표 시간마다 한 번만 줄입니다.
+ * DB 가 느려지면 상한이 내려가 대기하는 요청이 쌓이지 않고 바로 거절되므로, 처리 중인 요청의 응답 시간이 유지됩니다.
+ * 모든 요청이 거치므로 락 없이 CAS 로 갱신합니다. 상한(double)은 비트로 바꿔 AtomicLong 에 보관합니다.
+ */
+public class AdaptiveConcurrencyLimit {
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong decreasedAt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis) {
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.decreasedAt = new AtomicLong(System.nanoTime() - targetLatencyNanos);
+    }
+
+    /**
+     * 처리 중인 요청 수가 상한보다 적으면 요청을 시작합니다.
+     * @return boolean 시작했으면 true, 상한에 도달했으면 false
+     */
+    public boolean tryAcquire() {
+        int limitNow = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limitNow) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청이 끝났음을 알리고 응답 시간으로 상한을 조절합니다.
+     * @param latencyNanos 응답 시간(ns)
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public void release(long latencyNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos <= targetLatencyNanos) {
+            increase();
+            return;
+        }
+        long last = decreasedAt.get();
+        // 같은 목표 시간 안에서는 decreasedAt 을 먼저 바꾼 요청만 상한을 줄입니다.
+        if (nowNanos - last >= targetLatencyNanos && decreasedAt.compareAndSet(last, nowNanos)) {
+            decrease();
+        }
+    }
+
+    private void increase() {
+        while (true) {
+            long bits = limitBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = Math.min(maxLimit, current + 1 / current);
+            if (next == current || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private void decrease() {
+        while (true) {
+            long bits = limitBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = Math.max(minLimit, current * BACKOFF);
+            if (next == current || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
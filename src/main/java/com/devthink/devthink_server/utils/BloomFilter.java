@@ -0,0 +1,81 @@
+package com.devthink.devthink_server.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 포함 여부를 적은 메모리로 확인하는 블룸 필터입니다.
+ * 포함되지 않았다는 답은 항상 정확하고, 포함되었다는 답은 설정한 확률(fpp)로 틀릴 수 있으므로 정확한 집합과 함께 사용합니다.
+ * 비트 배열은 CAS로 갱신되어 잠금 없이 동시에 추가/조회할 수 있으며, 조회는 객체를 생성하지 않습니다.
+ * 항목을 지울 수 없으므로 지워야 하는 경우 새 필터를 만들어 교체합니다.
+ */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param fpp 허용하는 오탐 확률 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double fpp) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = Math.max(64L, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.numBits = (long) bits.length() * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash1 = hash1(value);
+        long hash2 = hash2(value);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = index(hash1 + i * hash2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash1(value);
+        long hash2 = hash2(value);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % numBits;
+    }
+
+    // 문자열 해시를 64비트로 섞습니다. (MurmurHash3 fmix64)
+    private static long hash1(String value) {
+        long h = value.hashCode() * 0x9E3779B97F4A7C15L + value.length();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 첫 번째 해시와 독립적인 FNV-1a 64비트 해시입니다. 0이 되지 않도록 홀수로 만듭니다.
+    private static long hash2(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h | 1L;
+    }
+}
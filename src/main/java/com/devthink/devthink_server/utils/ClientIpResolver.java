@@ -0,0 +1,78 @@
+package com.devthink.devthink_server.utils;
+
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 요청을 보낸 클라이언트의 IP 를 구합니다.
+ * 신뢰하는 프록시(로드밸런서, 리버스 프록시)에서 온 요청만 X-Forwarded-For 를 읽고, 오른쪽부터 신뢰하지 않는 첫 주소를 클라이언트로 봅니다.
+ * 클라이언트가 직접 넣은 값은 프록시가 덧붙인 주소보다 왼쪽에 있으므로 사용되지 않습니다.
+ * 신뢰하는 프록시가 없으면 연결한 주소를 그대로 사용합니다.
+ */
+public class ClientIpResolver {
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    // 주소가 아닌 값으로 DNS 를 조회하지 않도록 IP 형식만 확인합니다.
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F.:]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    /**
+     * @param trustedProxies 신뢰하는 프록시의 IP 또는 CIDR (예: 10.0.0.0/8)
+     */
+    public ClientIpResolver(Collection<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::strip)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        if (!isTrusted(client)) {
+            return client;
+        }
+        List<String> hops = forwardedFor(request);
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i);
+            if (!IP_LITERAL.matcher(hop).matches()) {
+                break;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 헤더가 여러 개면 도착한 순서대로 이어 붙입니다.
+    private static List<String> forwardedFor(HttpServletRequest request) {
+        List<String> hops = new ArrayList<>();
+        Enumeration<String> headers = request.getHeaders(FORWARDED_FOR);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String hop : headers.nextElement().split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.strip());
+                }
+            }
+        }
+        return hops;
+    }
+}
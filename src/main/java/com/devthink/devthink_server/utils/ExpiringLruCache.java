@@ -0,0 +1,186 @@
+package com.devthink.devthink_server.utils;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기와 유효 시간이 제한된 LRU 캐시입니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 버리고, 유효 시간이 지난 항목은 조회할 때 버립니다.
+ * expireAfterAccess 로 만들면 조회할 때마다 유효 시간을 다시 시작하므로, 마지막 사용 후 유효 시간 동안 쓰지 않은 항목만 버립니다.
+ * 요청마다 조회하는 경로에서 한 락에 몰리지 않도록, 키의 해시로 나눈 세그먼트마다 따로 동기화합니다.
+ * 최대 크기와 LRU 순서는 세그먼트별로 지키므로, 세그먼트가 여러 개이면 가장 오래된 항목을 대략적으로 버립니다.
+ * 세그먼트가 너무 작아지지 않도록 최대 크기가 작으면 세그먼트를 하나만 씁니다.
+ * @param <K> 키
+ * @param <V> 값
+ */
+public class ExpiringLruCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlMillis;
+    private final boolean expireAfterAccess;
+    private final Clock clock;
+
+    public ExpiringLruCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, false);
+    }
+
+    public ExpiringLruCache(int maxSize, long ttlMillis, boolean expireAfterAccess) {
+        this(maxSize, ttlMillis, expireAfterAccess, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxSize, long ttlMillis, Clock clock) {
+        this(maxSize, ttlMillis, false, clock);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize, long ttlMillis, boolean expireAfterAccess, Clock clock) {
+        this.ttlMillis = ttlMillis;
+        this.expireAfterAccess = expireAfterAccess;
+        this.clock = clock;
+        int count = 1;
+        while (count < MAX_SEGMENTS && (long) count * 2 * MIN_SEGMENT_SIZE <= maxSize) {
+            count *= 2;
+        }
+        this.segments = (Segment<K, V>[]) new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maxSize / count);
+        }
+    }
+
+    /**
+     * 유효한 값을 반환합니다. 없거나 유효 시간이 지났으면 null을 반환합니다.
+     * expireAfterAccess 이면 유효 시간을 지금부터 다시 시작합니다.
+     * @param key 키
+     * @return V 값
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return get(segment, key);
+        }
+    }
+
+    /**
+     * 기본 유효 시간으로 값을 저장합니다.
+     * @param key 키
+     * @param value 값
+     */
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * 값을 저장합니다. 기본 유효 시간과 전달된 만료 시각 중 먼저 오는 시각에 만료됩니다.
+     * expireAfterAccess 이어도 전달된 만료 시각은 넘기지 않습니다.
+     * @param key 키
+     * @param value 값
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            put(segment, key, value, expiresAt);
+        }
+    }
+
+    /**
+     * 유효한 값을 반환하고, 없으면 만들어 기본 유효 시간으로 저장합니다.
+     * @param key 키
+     * @param loader 값이 없을 때 값을 만드는 함수
+     * @return V 값
+     */
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V value = get(segment, key);
+            if (value == null) {
+                value = loader.apply(key);
+                put(segment, key, value, Long.MAX_VALUE);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 값을 버리고, 버린 값이 유효했으면 반환합니다. 같은 키로 동시에 호출해도 한 호출만 값을 받습니다.
+     * @param key 키
+     * @return V 버린 값. 없거나 유효 시간이 지났으면 null
+     */
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Timed<V> entry = segment.remove(key);
+            return entry == null || entry.expiresAt <= clock.millis() ? null : entry.value;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private V get(Segment<K, V> segment, K key) {
+        Timed<V> entry = segment.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.millis();
+        if (entry.expiresAt <= now) {
+            segment.remove(key);
+            return null;
+        }
+        if (expireAfterAccess) {
+            entry.expiresAt = Math.min(now + ttlMillis, entry.deadline);
+        }
+        return entry.value;
+    }
+
+    private void put(Segment<K, V> segment, K key, V value, long expiresAt) {
+        long now = clock.millis();
+        long until = Math.min(now + ttlMillis, expiresAt);
+        if (until > now) {
+            segment.put(key, new Timed<>(value, until, expiresAt));
+        }
+    }
+
+    // 해시의 상위 비트도 섞어, 하위 비트가 비슷한 키가 한 세그먼트에 몰리지 않게 합니다.
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, Timed<V>> {
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Timed<V>> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static class Timed<V> {
+        private final V value;
+        private final long deadline;
+        private long expiresAt;
+
+        private Timed(V value, long expiresAt, long deadline) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.deadline = deadline;
+        }
+    }
+}
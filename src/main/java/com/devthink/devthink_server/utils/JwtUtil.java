@@ -2,25 +2,68 @@ package com.devthink.devthink_server.utils;
 
 import com.devthink.devthink_server.errors.InvalidTokenException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
+    public static final String TOKEN_TYPE = "type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     private final Key key;
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-        key = Keys.hmacShaKeyFor(secret.getBytes());
+    // 파서는 불변이고 스레드에 안전하므로 한 번만 만들어 재사용합니다.
+    private final JwtParser parser;
+    private final long accessTokenTtlMillis;
+    private final long refreshTokenTtlMillis;
 
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.access-token-ttl-seconds:1800}") long accessTokenTtlSeconds,
+                   @Value("${jwt.refresh-token-ttl-seconds:1209600}") long refreshTokenTtlSeconds) {
+        key = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        accessTokenTtlMillis = TimeUnit.SECONDS.toMillis(accessTokenTtlSeconds);
+        refreshTokenTtlMillis = TimeUnit.SECONDS.toMillis(refreshTokenTtlSeconds);
     }
+
+    /**
+     * 짧은 시간 동안 유효한 액세스 토큰을 발급합니다.
+     * @param userId 유저 아이디
+     * @return String 액세스 토큰
+     */
     public String encode(Long userId) {
+        return encode(userId, ACCESS_TOKEN, accessTokenTtlMillis);
+    }
+
+    /**
+     * 액세스 토큰을 다시 발급받을 때 사용하는 리프레시 토큰을 발급합니다.
+     * @param userId 유저 아이디
+     * @return String 리프레시 토큰
+     */
+    public String encodeRefreshToken(Long userId) {
+        return encode(userId, REFRESH_TOKEN, refreshTokenTtlMillis);
+    }
 
+    // 폐기할 때 식별할 수 있도록 토큰마다 고유한 jti 를 부여합니다.
+    private String encode(Long userId, String type, long ttlMillis) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .claim("userId",userId)
+                .setId(UUID.randomUUID().toString())
+                .claim("userId", userId)
+                .claim(TOKEN_TYPE, type)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + ttlMillis))
                 .signWith(key)
                 .compact();
     }
@@ -30,12 +73,9 @@ public class JwtUtil {
             throw new InvalidTokenException(token);
         }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
-        } catch (SignatureException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException(token);
         }
     }
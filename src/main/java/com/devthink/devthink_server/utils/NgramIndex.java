@@ -0,0 +1,267 @@
+package com.devthink.devthink_server.utils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문서 식별자를 n-gram(1, 2글자) 단위로 색인하는 메모리 역색인입니다.
+ * 띄어쓰기가 불규칙한 한글 제목에서도 부분 문자열 검색이 가능하며,
+ * 검색어의 모든 n-gram 을 포함한 문서만 필드 가중치 합계 순으로 반환합니다.
+ * 색인은 파티션(예: 카테고리)별로 나누어, 검색할 때 다른 파티션의 문서는 살펴보지 않습니다.
+ */
+public class NgramIndex {
+    public static final Long DEFAULT_PARTITION = 0L;
+
+    private static final Comparator<Hit> RANK = Comparator.<Hit>comparingInt(hit -> hit.score)
+            .thenComparingLong(hit -> hit.id);
+
+    private final Map<Long, Map<String, Map<Long, Integer>>> partitions = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 기본 파티션에 색인합니다. 이미 색인된 문서인 경우 기존 색인을 교체합니다.
+     * @param id 문서 식별자
+     * @param fields 색인할 필드와 가중치
+     */
+    public void put(Long id, Field... fields) {
+        put(id, DEFAULT_PARTITION, fields);
+    }
+
+    /**
+     * 문서를 파티션에 색인합니다. 이미 색인된 문서인 경우 기존 색인을 교체합니다.
+     * @param id 문서 식별자
+     * @param partition 파티션 식별자
+     * @param fields 색인할 필드와 가중치
+     */
+    public void put(Long id, Long partition, Field... fields) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (Field field : fields) {
+            for (String gram : grams(field.text, field.unigrams)) {
+                scores.merge(gram, field.weight, Integer::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            Map<String, Map<Long, Integer>> postings = partitions.computeIfAbsent(partition, key -> new HashMap<>());
+            scores.forEach((gram, score) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(id, score));
+            documents.put(id, new Document(partition, scores.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     * @param id 문서 식별자
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기본 파티션에서 검색합니다.
+     * @param query 검색어
+     * @param limit 반환할 최대 문서 수
+     * @return 검색 결과
+     */
+    public Hits search(String query, int limit) {
+        return search(DEFAULT_PARTITION, query, limit);
+    }
+
+    /**
+     * 파티션에서 검색어의 모든 n-gram 을 포함한 문서 중 점수 내림차순(같으면 최신 식별자 순)으로 앞의 limit 개를 반환합니다.
+     * 전체 결과를 정렬하지 않고 크기가 limit 인 힙으로 상위 문서만 고르며, 전체 개수는 함께 셉니다.
+     * @param partition 파티션 식별자
+     * @param query 검색어
+     * @param limit 반환할 최대 문서 수
+     * @return 검색 결과
+     */
+    public Hits search(Long partition, String query, int limit) {
+        Set<String> queryGrams = grams(query, false);
+        if (queryGrams.isEmpty()) {
+            return Hits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Map<Long, Integer>> postings = partitions.get(partition);
+            if (postings == null) {
+                return Hits.EMPTY;
+            }
+            List<Map<Long, Integer>> matched = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return Hits.EMPTY;
+                }
+                matched.add(posting);
+            }
+            matched.sort(Comparator.comparingInt(Map::size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(RANK);
+            int total = 0;
+            candidates:
+            for (Map.Entry<Long, Integer> entry : matched.get(0).entrySet()) {
+                Long id = entry.getKey();
+                int score = entry.getValue();
+                for (int i = 1; i < matched.size(); i++) {
+                    Integer other = matched.get(i).get(id);
+                    if (other == null) {
+                        continue candidates;
+                    }
+                    score += other;
+                }
+                total++;
+                if (limit <= 0) {
+                    continue;
+                }
+                Hit hit = new Hit(id, score);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (RANK.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            Long[] ids = new Long[top.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = top.poll().id;
+            }
+            return new Hits(Arrays.asList(ids), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 1글자, 2글자 n-gram 으로 색인하는 필드를 만듭니다. 한 글자 검색어로도 찾을 수 있습니다.
+     */
+    public static Field field(String text, int weight) {
+        return new Field(text, weight, true);
+    }
+
+    /**
+     * 2글자 n-gram 으로만 색인하는 필드를 만듭니다.
+     * 본문처럼 긴 텍스트에서 흔한 한 글자가 거의 모든 문서를 가리키는 색인이 되지 않도록 합니다.
+     */
+    public static Field longField(String text, int weight) {
+        return new Field(text, weight, false);
+    }
+
+    private void removeDocument(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        Map<String, Map<Long, Integer>> postings = partitions.get(document.partition);
+        for (String gram : document.grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        if (postings.isEmpty()) {
+            partitions.remove(document.partition);
+        }
+    }
+
+    /**
+     * 텍스트를 소문자로 정규화하고 글자/숫자 외의 문자를 제거한 뒤 n-gram 을 만듭니다.
+     * 띄어쓰기를 제거하고 만들기 때문에 "스프링 부트"와 "스프링부트"가 같은 n-gram 을 가집니다.
+     * 색인 시에는 필드에 따라 1글자 n-gram 도 만들고, 검색 시에는 한 글자 검색어가 아니면 2글자 n-gram 만 사용합니다.
+     */
+    private static Set<String> grams(String text, boolean unigrams) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        int[] codePoints = text.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", "")
+                .codePoints()
+                .toArray();
+        if (unigrams || codePoints.length == 1) {
+            for (int codePoint : codePoints) {
+                grams.add(new String(Character.toChars(codePoint)));
+            }
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    public static class Field {
+        private final String text;
+        private final int weight;
+        private final boolean unigrams;
+
+        private Field(String text, int weight, boolean unigrams) {
+            this.text = text;
+            this.weight = weight;
+            this.unigrams = unigrams;
+        }
+    }
+
+    /**
+     * 점수 순으로 고른 문서 식별자와, 검색어와 일치한 전체 문서 수입니다.
+     */
+    public static class Hits {
+        private static final Hits EMPTY = new Hits(Collections.emptyList(), 0);
+
+        private final List<Long> ids;
+        private final int total;
+
+        private Hits(List<Long> ids, int total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private static class Hit {
+        private final long id;
+        private final int score;
+
+        private Hit(long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    private static class Document {
+        private final Long partition;
+        private final Set<String> grams;
+
+        private Document(Long partition, Set<String> grams) {
+            this.partition = partition;
+            this.grams = grams;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.devthink.devthink_server.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷입니다. 최대 capacity 개의 토큰을 초당 refillPerSecond 개씩 채우고, 요청마다 토큰을 하나 씁니다.
+ * 쉬는 동안 모인 토큰만큼 한 번에 몰리는 요청은 허용하고, 그 이후로는 채우는 속도만큼만 허용합니다.
+ * 토큰은 요청이 올 때 지난 시간만큼 한 번에 채우므로 별도의 스레드가 필요 없습니다.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 씁니다.
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return long 토큰을 썼으면 0, 토큰이 없으면 다음 토큰이 찰 때까지 남은 시간(ns)
+     */
+    public synchronized long tryConsume(long nowNanos) {
+        if (nowNanos > refilledAt) {
+            tokens = Math.min(capacity, tokens + (nowNanos - refilledAt) * refillPerNano);
+            refilledAt = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
@@ -0,0 +1,171 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Category;
+import com.devthink.devthink_server.domain.Post;
+import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.dto.PostListData;
+import com.devthink.devthink_server.dto.UserProfileData;
+import com.devthink.devthink_server.infra.CommentRepository;
+import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.ReplyRepository;
+import com.devthink.devthink_server.infra.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BestPostBoardTest {
+
+    private BestPostBoard bestPostBoard;
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        HeartCounter heartCounter = new HeartCounter(postRepository, mock(CommentRepository.class),
+                mock(ReplyRepository.class), mock(ReviewRepository.class), mock(PlatformTransactionManager.class));
+        bestPostBoard = new BestPostBoard(postRepository, heartCounter, 2);
+
+        LocalDateTime now = LocalDateTime.now();
+        given(postRepository.findListDataCreatedSince(eq(1L), any(LocalDateTime.class))).willReturn(List.of(
+                new PostListData(1L, 1L, "user", "", "first", 3, now, now),
+                new PostListData(2L, 1L, "user", "", "second", 5, now, now),
+                new PostListData(3L, 1L, "user", "", "third", 1, now, now)
+        ));
+    }
+
+    @Test
+    void 좋아요_순으로_상위_게시글을_반환() {
+        List<PostListData> posts = bestPostBoard.getBestPosts(1L);
+
+        assertThat(posts).extracting(PostListData::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 카테고리_순위는_한번만_불러옴() {
+        bestPostBoard.getBestPosts(1L);
+        bestPostBoard.getBestPosts(1L);
+
+        verify(postRepository, times(1)).findListDataCreatedSince(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 좋아요_변경을_순위에_반영() {
+        bestPostBoard.getBestPosts(1L);
+
+        bestPostBoard.hearted(3L, 5);
+
+        List<PostListData> posts = bestPostBoard.getBestPosts(1L);
+        assertThat(posts).extracting(PostListData::getId).containsExactly(3L, 2L);
+        assertThat(posts.get(0).getHeartCnt()).isEqualTo(6);
+    }
+
+    @Test
+    void 삭제된_게시글은_순위에서_제외() {
+        bestPostBoard.getBestPosts(1L);
+
+        bestPostBoard.postDeleted(new PostDeletedEvent(2L));
+
+        assertThat(bestPostBoard.getBestPosts(1L)).extracting(PostListData::getId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 반환된_목록을_수정해도_순위는_그대로() {
+        bestPostBoard.getBestPosts(1L).get(0).setHeartCnt(100);
+
+        assertThat(bestPostBoard.getBestPosts(1L).get(0).getHeartCnt()).isEqualTo(5);
+    }
+
+    @Test
+    void 작성이_커밋된_게시글을_순위에_추가() {
+        bestPostBoard.getBestPosts(1L);
+
+        bestPostBoard.postCreated(created(post(4L, 1L)));
+        bestPostBoard.hearted(4L, 10);
+
+        assertThat(bestPostBoard.getBestPosts(1L)).extracting(PostListData::getId).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void 순위를_불러오는_동안_다른_카테고리의_좋아요를_막지_않음() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(postRepository.findListDataCreatedSince(eq(2L), any(LocalDateTime.class))).will(invocation -> {
+            querying.countDown();
+            release.await();
+            return List.of();
+        });
+        bestPostBoard.getBestPosts(1L);
+        CompletableFuture<List<PostListData>> cold = CompletableFuture.supplyAsync(() -> bestPostBoard.getBestPosts(2L));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> bestPostBoard.hearted(3L, 5));
+        bestPostBoard.postCreated(created(post(5L, 2L)));
+        release.countDown();
+
+        assertThat(cold.get(5, TimeUnit.SECONDS)).extracting(PostListData::getId).containsExactly(5L);
+        assertThat(bestPostBoard.getBestPosts(1L)).extracting(PostListData::getId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void 순위를_불러오는_동안_누른_좋아요는_한번만_반영() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LocalDateTime now = LocalDateTime.now();
+        given(postRepository.findListDataCreatedSince(eq(2L), any(LocalDateTime.class))).will(invocation -> {
+            querying.countDown();
+            release.await();
+            return List.of(new PostListData(6L, 1L, "user", "", "cold", 2, now, now));
+        });
+        CompletableFuture<List<PostListData>> cold = CompletableFuture.supplyAsync(() -> bestPostBoard.getBestPosts(2L));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        bestPostBoard.hearted(6L, 1);
+        release.countDown();
+
+        assertThat(cold.get(5, TimeUnit.SECONDS)).extracting(PostListData::getHeartCnt).containsExactly(3);
+        bestPostBoard.hearted(6L, 1);
+        assertThat(bestPostBoard.getBestPosts(2L)).extracting(PostListData::getHeartCnt).containsExactly(4);
+    }
+
+    @Test
+    void 작성자_닉네임은_이벤트의_프로필에서_가져옴() {
+        bestPostBoard.getBestPosts(1L);
+        Post post = post(4L, 1L);
+
+        bestPostBoard.postCreated(new PostCreatedEvent(post, UserProfileData.builder().id(1L).nickname("author").build()));
+        bestPostBoard.hearted(4L, 10);
+
+        assertThat(bestPostBoard.getBestPosts(1L).get(0).getNickname()).isEqualTo("author");
+    }
+
+    private static PostCreatedEvent created(Post post) {
+        return new PostCreatedEvent(post, post.getUser().toUserProfileData());
+    }
+
+    private static Post post(Long id, Long categoryId) {
+        Post post = Post.builder()
+                .id(id)
+                .user(User.builder().id(1L).nickname("user").build())
+                .category(Category.builder().id(categoryId).build())
+                .title("new")
+                .build();
+        ReflectionTestUtils.setField(post, "createAt", LocalDateTime.now());
+        return post;
+    }
+}
@@ -0,0 +1,121 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.dto.BookBestListResponseData;
+import com.devthink.devthink_server.dto.BookRequestData;
+import com.devthink.devthink_server.dto.BookResponseData;
+import com.devthink.devthink_server.infra.BookRepository;
+import com.devthink.devthink_server.infra.BookSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BookServiceTest {
+
+    private BookService bookService;
+    private BookSearchIndex bookSearchIndex;
+    private final WeeklyBestBooks weeklyBestBooks = mock(WeeklyBestBooks.class);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Book> books = List.of(
+            Book.builder().id(1L).name("스프링 입문").writer("김자바").build(),
+            Book.builder().id(2L).name("스프링 부트 실전").writer("이스프링").build(),
+            Book.builder().id(3L).name("JPA 프로그래밍").writer("스프링 박").build(),
+            Book.builder().id(4L).name("코틀린 인 액션").writer("최코틀").build());
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex(bookRepository);
+        books.forEach(bookSearchIndex::put);
+        bookService = new BookService(bookRepository, bookSearchIndex, weeklyBestBooks,
+                mock(MostReviewedBook.class), eventPublisher);
+
+        given(bookRepository.findAllById(anyCollection())).will(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return books.stream().filter(book -> ids.contains(book.getId())).collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    void 검색한_책을_관련도_순으로_페이지만큼_가져옴() {
+        Page<BookResponseData> page = bookService.getSearchBooks("스프링", PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        // 이름과 저자 모두에 검색어가 있는 책, 이름에만 있는 책, 저자에만 있는 책 순서입니다.
+        assertThat(page.getContent()).extracting(BookResponseData::getId).containsExactly(2L, 1L);
+
+        Page<BookResponseData> last = bookService.getSearchBooks("스프링", PageRequest.of(1, 2));
+        assertThat(last.getContent()).extracting(BookResponseData::getId).containsExactly(3L);
+    }
+
+    @Test
+    void 범위를_벗어난_페이지는_조회하지_않음() {
+        Page<BookResponseData> page = bookService.getSearchBooks("스프링", PageRequest.of(5, 2));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(bookRepository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void 다음_페이지가_있는지_전달() {
+        Slice<BookResponseData> first = bookService.getSearchBookSlice("스프링", PageRequest.of(0, 2));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent()).hasSize(2);
+
+        Slice<BookResponseData> last = bookService.getSearchBookSlice("스프링", PageRequest.of(1, 2));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.getContent()).hasSize(1);
+
+        Slice<BookResponseData> exact = bookService.getSearchBookSlice("스프링", PageRequest.of(0, 3));
+        assertThat(exact.hasNext()).isFalse();
+    }
+
+    @Test
+    void 검색_결과가_없으면_빈_페이지() {
+        assertThat(bookService.getSearchBooks("파이썬", PageRequest.of(0, 2)).getTotalElements()).isZero();
+        assertThat(bookService.getSearchBookSlice("파이썬", PageRequest.of(0, 2)).hasNext()).isFalse();
+    }
+
+    @Test
+    void 새로_등록한_책은_커밋된_뒤에_색인() {
+        Book book = Book.builder().id(5L).name("파이썬 입문").build();
+        given(bookRepository.save(any(Book.class))).willReturn(book);
+
+        bookService.createBook(new BookRequestData("9788960773431", "파이썬 입문", "박파이", ""));
+
+        assertThat(bookSearchIndex.search("파이썬", 10).getIds()).isEmpty();
+        verify(eventPublisher).publishEvent(any(BookCreatedEvent.class));
+
+        bookSearchIndex.bookCreated(new BookCreatedEvent(book));
+        assertThat(bookSearchIndex.search("파이썬", 10).getIds()).containsExactly(5L);
+    }
+
+    @Test
+    void 베스트_책은_순위대로_현재_리뷰수와_함께_조회() {
+        WeeklyBestBooks.Snapshot snapshot = mock(WeeklyBestBooks.Snapshot.class);
+        given(snapshot.getBookIds()).willReturn(List.of(3L, 1L));
+        given(weeklyBestBooks.getSnapshot()).willReturn(snapshot);
+        books.get(2).upReviewCnt();
+
+        BookBestListResponseData top5 = bookService.getTop5BooksInPeriod();
+
+        assertThat(top5.getBooks()).extracting(BookResponseData::getId).containsExactly(3L, 1L);
+        assertThat(top5.getBooks().get(0).getReviewCnt()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.HeartTarget;
+import com.devthink.devthink_server.infra.CommentHeartRepository;
+import com.devthink.devthink_server.infra.PostHeartRepository;
+import com.devthink.devthink_server.infra.ReplyHeartRepository;
+import com.devthink.devthink_server.infra.ReviewHeartRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HeartCheckServiceTest {
+
+    private HeartCheckService heartCheckService;
+    private final PostHeartRepository postHeartRepository = mock(PostHeartRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        heartCheckService = new HeartCheckService(postHeartRepository, mock(CommentHeartRepository.class),
+                mock(ReplyHeartRepository.class), mock(ReviewHeartRepository.class), 2, 60);
+
+        given(postHeartRepository.findHeartedPostIds(anyLong(), any())).willReturn(List.of(2L));
+    }
+
+    @Test
+    void 좋아요한_게시글만_반환() {
+        assertThat(heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L, 3L)))
+                .containsExactly(2L);
+    }
+
+    @Test
+    void 확인한_게시글은_다시_조회하지_않음() {
+        heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L, 3L));
+
+        assertThat(heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(2L, 3L)))
+                .containsExactly(2L);
+        verify(postHeartRepository, times(1)).findHeartedPostIds(anyLong(), any());
+    }
+
+    @Test
+    void 좋아요와_취소를_캐시에_반영() {
+        heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L));
+
+        heartCheckService.update(HeartTarget.POST, 1L, 1L, true);
+        heartCheckService.update(HeartTarget.POST, 1L, 2L, false);
+
+        assertThat(heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L)))
+                .containsExactly(1L);
+        verify(postHeartRepository, times(1)).findHeartedPostIds(anyLong(), any());
+    }
+
+    @Test
+    void 캐시된_사용자수를_넘으면_오래된_사용자를_제거() {
+        heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L));
+        heartCheckService.getHeartedIds(HeartTarget.POST, 2L, List.of(1L));
+        heartCheckService.getHeartedIds(HeartTarget.POST, 3L, List.of(1L));
+
+        heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L));
+
+        verify(postHeartRepository, times(2)).findHeartedPostIds(1L, List.of(1L));
+    }
+
+    @Test
+    void 유효_시간이_지난_사용자는_다시_조회() {
+        heartCheckService = new HeartCheckService(postHeartRepository, mock(CommentHeartRepository.class),
+                mock(ReplyHeartRepository.class), mock(ReviewHeartRepository.class), 2, 0);
+
+        heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L));
+
+        assertThat(heartCheckService.getHeartedIds(HeartTarget.POST, 1L, List.of(1L, 2L)))
+                .containsExactly(2L);
+        verify(postHeartRepository, times(2)).findHeartedPostIds(1L, List.of(1L, 2L));
+    }
+}
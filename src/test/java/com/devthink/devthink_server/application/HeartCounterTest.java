@@ -0,0 +1,92 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.HeartTarget;
+import com.devthink.devthink_server.dto.CommentDetailResponseData;
+import com.devthink.devthink_server.dto.CommentResponseData;
+import com.devthink.devthink_server.dto.ReplyResponseData;
+import com.devthink.devthink_server.infra.CommentRepository;
+import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.ReplyRepository;
+import com.devthink.devthink_server.infra.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class HeartCounterTest {
+
+    private HeartCounter heartCounter;
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ReplyRepository replyRepository = mock(ReplyRepository.class);
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        heartCounter = new HeartCounter(postRepository, commentRepository, replyRepository, reviewRepository,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 반영전_변경분을_더한_좋아요수를_반환() {
+        heartCounter.add(HeartTarget.POST, 1L, 1);
+        heartCounter.add(HeartTarget.POST, 1L, 1);
+        heartCounter.add(HeartTarget.POST, 2L, -1);
+
+        assertThat(heartCounter.merge(HeartTarget.POST, 1L, 3)).isEqualTo(5);
+        assertThat(heartCounter.merge(HeartTarget.POST, 2L, 3)).isEqualTo(2);
+        assertThat(heartCounter.merge(HeartTarget.REVIEW, 1L, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void 댓글과_답글의_좋아요수에도_반영전_변경분을_더함() {
+        heartCounter.add(HeartTarget.COMMENT, 1L, 1);
+        heartCounter.add(HeartTarget.REPLY, 2L, 1);
+        heartCounter.add(HeartTarget.REPLY, 2L, 1);
+        CommentDetailResponseData comment = CommentDetailResponseData.builder()
+                .comment(CommentResponseData.builder().commentId(1L).content("comment").heartCnt(3).build())
+                .replys(List.of(ReplyResponseData.builder().replyId(2L).content("reply").heartCnt(0).build()))
+                .build();
+
+        heartCounter.mergeComments(List.of(comment));
+
+        assertThat(comment.getComment().getHeartCnt()).isEqualTo(4);
+        assertThat(comment.getReplys().get(0).getHeartCnt()).isEqualTo(2);
+    }
+
+    @Test
+    void 같은_변경분의_대상을_묶어서_반영() {
+        heartCounter.add(HeartTarget.POST, 1L, 1);
+        heartCounter.add(HeartTarget.POST, 2L, 1);
+        heartCounter.add(HeartTarget.POST, 3L, 1);
+        heartCounter.add(HeartTarget.POST, 3L, 1);
+        heartCounter.add(HeartTarget.COMMENT, 4L, 1);
+        heartCounter.add(HeartTarget.COMMENT, 4L, -1);
+
+        heartCounter.flush();
+
+        verify(postRepository).addHeartCnt(List.of(1L, 2L), 1);
+        verify(postRepository).addHeartCnt(List.of(3L), 2);
+        verify(commentRepository, never()).addHeartCnt(anyCollection(), anyInt());
+        assertThat(heartCounter.merge(HeartTarget.POST, 3L, 5)).isEqualTo(5);
+    }
+
+    @Test
+    void 반영에_실패하면_변경분을_되돌림() {
+        given(replyRepository.addHeartCnt(anyCollection(), anyInt())).willThrow(new IllegalStateException());
+        heartCounter.add(HeartTarget.REPLY, 1L, 1);
+
+        heartCounter.flush();
+
+        assertThat(heartCounter.merge(HeartTarget.REPLY, 1L, 0)).isEqualTo(1);
+    }
+}
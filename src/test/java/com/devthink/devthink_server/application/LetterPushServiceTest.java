@@ -0,0 +1,68 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.dto.LetterResultData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LetterPushServiceTest {
+
+    private LetterPushService letterPushService;
+    private final UnreadLetterCounter unreadLetterCounter = mock(UnreadLetterCounter.class);
+
+    @BeforeEach
+    void setUp() {
+        letterPushService = new LetterPushService(unreadLetterCounter, 60_000L, 30L);
+        given(unreadLetterCounter.get(anyLong())).willReturn(3L);
+    }
+
+    @Test
+    void 구독하지_않은_유저에게는_전달하지_않는다() {
+        letterPushService.letterSent(new LetterSentEvent(1L, 2L, LetterResultData.builder().content("test").build()));
+        letterPushService.lettersRead(new LettersReadEvent(2L, 1L, 1));
+
+        verify(unreadLetterCounter, never()).get(anyLong());
+    }
+
+    @Test
+    void 구독한_유저에게_새_쪽지와_안읽은_쪽지_수를_전달한다() {
+        letterPushService.subscribe(2L);
+
+        letterPushService.letterSent(new LetterSentEvent(1L, 2L, LetterResultData.builder().content("test").build()));
+
+        assertThat(letterPushService.isSubscribed(2L)).isTrue();
+        verify(unreadLetterCounter, times(2)).get(2L);
+        verify(unreadLetterCounter, never()).get(1L);
+    }
+
+    @Test
+    void 구독_토큰은_한번만_사용할_수_있다() {
+        String token = letterPushService.issueSubscribeToken(2L);
+
+        assertThat(letterPushService.redeemSubscribeToken(token)).isEqualTo(2L);
+        assertThat(letterPushService.redeemSubscribeToken(token)).isNull();
+    }
+
+    @Test
+    void 만료된_구독_토큰은_사용할_수_없다() {
+        letterPushService = new LetterPushService(unreadLetterCounter, 60_000L, 0L);
+
+        String token = letterPushService.issueSubscribeToken(2L);
+
+        assertThat(letterPushService.redeemSubscribeToken(token)).isNull();
+    }
+
+    @Test
+    void 발급받지_않은_구독_토큰은_사용할_수_없다() {
+        letterPushService.issueSubscribeToken(2L);
+
+        assertThat(letterPushService.redeemSubscribeToken("unknown")).isNull();
+    }
+}
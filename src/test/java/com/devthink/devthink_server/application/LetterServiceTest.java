@@ -1,14 +1,22 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.Inbox;
 import com.devthink.devthink_server.domain.Letter;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.domain.UserRoom;
+import com.devthink.devthink_server.dto.LetterHistoryData;
 import com.devthink.devthink_server.dto.LetterListData;
+import com.devthink.devthink_server.dto.LetterResultData;
 import com.devthink.devthink_server.dto.LetterSendData;
+import com.devthink.devthink_server.dto.UserProfileData;
+import com.devthink.devthink_server.infra.InboxRepository;
 import com.devthink.devthink_server.infra.LetterRepository;
 import com.devthink.devthink_server.infra.UserRepository;
+import com.devthink.devthink_server.infra.UserRoomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,8 +24,13 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class LetterServiceTest {
@@ -25,11 +38,19 @@ public class LetterServiceTest {
     private LetterService letterService;
     private LetterRepository letterRepository = mock(LetterRepository.class);
     private UserRepository userRepository = mock(UserRepository.class);
+    private InboxRepository inboxRepository = mock(InboxRepository.class);
+    private UserRoomRepository userRoomRepository = mock(UserRoomRepository.class);
+    private UnreadLetterCounter unreadLetterCounter = mock(UnreadLetterCounter.class);
+    private UserService userService = mock(UserService.class);
+    private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
     @BeforeEach
     void setup(){
 
-        letterService = new LetterService(letterRepository, userRepository);
+        letterService = new LetterService(letterRepository, userRepository, inboxRepository, userRoomRepository,
+                unreadLetterCounter, userService, eventPublisher);
+
+        given(userService.getProfile(1L)).willReturn(UserProfileData.builder().id(1L).nickname("sender").build());
 
         given(letterRepository.save(any(Letter.class))).will(
                 invocation -> {
@@ -47,10 +68,10 @@ public class LetterServiceTest {
                 }
         );
 
-        given(letterRepository.getMessageList(any(Long.class))).will(
+        given(inboxRepository.findInbox(any(Long.class))).will(
                 invocation -> {
-                    User sender = User.builder().id(1L).build();
-                    User target = User.builder().id(2L).build();
+                    User sender = User.builder().id(1L).nickname("tester").imageUrl("test.com").build();
+                    User target = User.builder().id(invocation.getArgument(0)).build();
                     UserRoom userRoom = UserRoom.builder().roomId(1L).user1(sender).user2(target).build();
 
                     Letter letter = Letter.builder()
@@ -61,56 +82,63 @@ public class LetterServiceTest {
                             .content("test")
                             .build();
 
-                    List<Letter> letters = new ArrayList<>();
-                    letters.add(letter);
-                    return letters;
+                    List<Inbox> inboxes = new ArrayList<>();
+                    inboxes.add(Inbox.of(letter, target, sender, 1L));
+                    return inboxes;
                 }
         );
+    }
 
-        given(letterRepository.getUnReadLists(any(Long.class), any(Long.class))).will(
-                invocation -> {
-                    User sender = User.builder().id(1L).build();
-                    Long userId = invocation.getArgument(0);
-                    Long roomId = invocation.getArgument(1);
+    @Test
+    void 올바른_정보로_쪽지를_보내는_경우() {
+        User sender = User.builder().id(1L).build();
+        User target = User.builder().id(2L).build();
+        UserRoom userRoom = UserRoom.builder().roomId(1L).user1(sender).user2(target).build();
+        LetterSendData letterSendData = LetterSendData.builder().content("tester").nickname("testst").heart(false).build();
 
-                    User target = User.builder().id(userId).build();
-                    UserRoom userRoom = UserRoom.builder().roomId(roomId).user1(sender).user2(target).build();
+        Letter letter = letterService.createMessage(userRoom, sender, target, letterSendData);
 
-                    Letter letter = Letter.builder()
-                            .id(1L)
-                            .room(userRoom)
-                            .sender(sender)
-                            .target(target)
-                            .content("test")
-                            .readCheck(false)
-                            .build();
+        assertThat(letter.getContent()).isEqualTo("test");
+        assertThat(letter.getId()).isEqualTo(1L);
+
+        verify(letterRepository).save(any(Letter.class));
+        verify(inboxRepository).updateLastLetter(eq(1L), eq(1L), eq(1L), eq(1L), eq("test"), isNull(), eq(0L));
+        verify(inboxRepository).updateLastLetter(eq(2L), eq(1L), eq(1L), eq(1L), eq("test"), isNull(), eq(1L));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof LetterSentEvent
+                && ((LetterSentEvent) event).getTargetId().equals(2L)
+                && ((LetterSentEvent) event).getLetter().getSendNick().equals("sender")));
+    }
 
-                    List<Letter> letters = new ArrayList<>();
-                    letters.add(letter);
+    @Test
+    void 처음_쪽지를_보내는_경우_쪽지방_목록을_만든다() {
+        User sender = User.builder().id(1L).build();
+        User target = User.builder().id(2L).build();
+        UserRoom userRoom = UserRoom.builder().id(10L).roomId(1L).user1(sender).user2(target).build();
+        LetterSendData letterSendData = LetterSendData.builder().content("test").nickname("testst").heart(false).build();
 
-                    return letters;
-                }
-        );
+        given(inboxRepository.updateLastLetter(anyLong(), anyLong(), anyLong(), anyLong(), any(), any(), anyLong()))
+                .willReturn(0);
 
-        given(letterRepository.countUnread(any(Long.class), any(Long.class))).willReturn(1L);
+        letterService.createMessage(userRoom, sender, target, letterSendData);
 
-        given(userRepository.findImageUrlById(any(Long.class))).willReturn("test.com");
-        given(userRepository.findNicknameById(any(Long.class))).willReturn("tester");
+        verify(userRoomRepository).findForUpdate(10L); // 동시에 보낸 첫 쪽지가 목록 행을 두 번 만들지 않도록 방을 잠급니다.
+        verify(inboxRepository).save(argThat(inbox -> inbox.getUser().getId().equals(1L) && inbox.getUnreadCount() == 0L));
+        verify(inboxRepository).save(argThat(inbox -> inbox.getUser().getId().equals(2L) && inbox.getUnreadCount() == 1L));
     }
 
     @Test
-    void 올바른_정보로_쪽지를_보내는_경우() {
+    void 쪽지방_목록이_이미_있는_경우_새로_만들지_않는다() {
         User sender = User.builder().id(1L).build();
         User target = User.builder().id(2L).build();
         UserRoom userRoom = UserRoom.builder().roomId(1L).user1(sender).user2(target).build();
-        LetterSendData letterSendData = LetterSendData.builder().content("tester").nickname("testst").heart(false).build();
+        LetterSendData letterSendData = LetterSendData.builder().content("test").nickname("testst").heart(false).build();
 
-        Letter letter = letterService.createMessage(userRoom, sender, target, letterSendData);
+        given(inboxRepository.updateLastLetter(anyLong(), anyLong(), anyLong(), anyLong(), any(), any(), anyLong()))
+                .willReturn(1);
 
-        assertThat(letter.getContent()).isEqualTo("test");
-        assertThat(letter.getId()).isEqualTo(1L);
+        letterService.createMessage(userRoom, sender, target, letterSendData);
 
-        verify(letterRepository).save(any(Letter.class));
+        verify(inboxRepository, never()).save(any(Inbox.class));
     }
 
     @Test
@@ -122,6 +150,8 @@ public class LetterServiceTest {
         assertThat(messageList.get(0).getContent()).isEqualTo("test");
         assertThat(messageList.get(0).getOtherNick()).isEqualTo("tester");
         assertThat(messageList.get(0).getProfile()).isEqualTo("test.com");
+        assertThat(messageList.get(0).getOtherId()).isEqualTo(1L);
+        assertThat(messageList.get(0).getUnRead()).isEqualTo(1L);
     }
 
     @Test
@@ -130,11 +160,68 @@ public class LetterServiceTest {
         User target = User.builder().id(2L).build();
         UserRoom userRoom = UserRoom.builder().roomId(1L).user1(sender).user2(target).build();
 
-        List<Letter> letters = letterService.setReadCheck(target, userRoom);
+        given(letterRepository.markRead(2L, 1L)).willReturn(3);
+
+        int read = letterService.setReadCheck(target, userRoom);
+
+        assertThat(read).isEqualTo(3);
+
+        verify(letterRepository).markRead(2L, 1L);
+        verify(inboxRepository).decreaseUnread(2L, 1L, 3L);
+        verify(eventPublisher).publishEvent(any(LettersReadEvent.class));
+    }
+
+    @Test
+    void 읽을_메시지가_없는_경우_쪽지방_목록을_갱신하지_않는다() {
+        User sender = User.builder().id(1L).build();
+        User target = User.builder().id(2L).build();
+        UserRoom userRoom = UserRoom.builder().roomId(1L).user1(sender).user2(target).build();
+
+        given(letterRepository.markRead(2L, 1L)).willReturn(0);
+
+        int read = letterService.setReadCheck(target, userRoom);
+
+        assertThat(read).isEqualTo(0);
 
-        assertThat(letters.get(0).getSender().getId()).isEqualTo(1L);
-        assertThat(letters.get(0).getTarget().getId()).isEqualTo(2L);
-        assertThat(letters.get(0).isReadCheck()).isEqualTo(true);
+        verify(inboxRepository, never()).decreaseUnread(anyLong(), anyLong(), anyLong());
     }
 
+    @Test
+    void 다음_메시지가_있는_경우_마지막_메시지_아이디를_커서로_반환한다() {
+        User sender = User.builder().id(1L).nickname("sender").build();
+        User target = User.builder().id(2L).nickname("target").build();
+        UserRoom userRoom = UserRoom.builder().id(10L).roomId(1L).user1(sender).user2(target).build();
+
+        List<Letter> letters = new ArrayList<>();
+        for (long id = 5L; id >= 3L; id--) {
+            letters.add(Letter.builder().id(id).room(userRoom).sender(sender).target(target).content("test").build());
+        }
+        given(letterRepository.findHistory(eq(2L), eq(10L), eq(Long.MAX_VALUE), any(Pageable.class))).willReturn(letters);
+
+        LetterHistoryData history = letterService.getMessage(target, userRoom, null, 2);
+
+        assertThat(history.getLetters()).extracting(LetterResultData::getId).containsExactly(5L, 4L);
+        assertThat(history.getLetters().get(0).getSendNick()).isEqualTo("sender");
+        assertThat(history.getNextCursor()).isEqualTo(4L);
+
+        verify(letterRepository).markRead(2L, 1L);
+    }
+
+    @Test
+    void 커서로_이전_메시지를_불러오는_경우_읽음처리_하지_않는다() {
+        User sender = User.builder().id(1L).build();
+        User target = User.builder().id(2L).build();
+        UserRoom userRoom = UserRoom.builder().id(10L).roomId(1L).user1(sender).user2(target).build();
+
+        List<Letter> letters = new ArrayList<>();
+        letters.add(Letter.builder().id(3L).room(userRoom).sender(sender).target(target).content("test").build());
+        given(letterRepository.findHistory(eq(2L), eq(10L), eq(4L), any(Pageable.class))).willReturn(letters);
+
+        LetterHistoryData history = letterService.getMessage(target, userRoom, 4L, 2);
+
+        assertThat(history.getLetters()).extracting(LetterResultData::getId).containsExactly(3L);
+        assertThat(history.getNextCursor()).isNull();
+
+        verify(letterRepository, never()).markRead(anyLong(), anyLong());
+    }
 }
@@ -0,0 +1,95 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.infra.RevokedTokenRepository;
+import com.devthink.devthink_server.infra.UserRepository;
+import com.devthink.devthink_server.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로그인이 비밀번호 해시를 기다리는 동안 트랜잭션과 DB 커넥션을 잡고 있지 않은지 실제 리포지토리로 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoginConnectionTest {
+    private static final String EMAIL = "login@email.com";
+    private static final String PASSWORD = "test1234567";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // matches 를 호출한 스레드에 트랜잭션이나 커넥션, 엔티티 매니저가 묶여 있었는지 기록합니다.
+    private final List<Boolean> transactionActive = new ArrayList<>();
+    private final List<Boolean> resourceBound = new ArrayList<>();
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        PasswordEncoder recordingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+                resourceBound.add(!TransactionSynchronizationManager.getResourceMap().isEmpty());
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return bcrypt.upgradeEncoding(encodedPassword);
+            }
+        };
+        authenticationService = new AuthenticationService(userRepository,
+                new JwtUtil("12345678901234567890123456789012", 1800, 1209600), recordingEncoder,
+                new TokenRevocationList(mock(RevokedTokenRepository.class), 100), 100, 300);
+
+        User user = User.builder()
+                .email(EMAIL)
+                .nickname("login")
+                .build();
+        user.changePassword(PASSWORD, new BCryptPasswordEncoder(4));
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 비밀번호를_검증하는_동안_트랜잭션과_커넥션을_잡지_않는_경우() {
+        authenticationService.login(EMAIL, PASSWORD);
+
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(resourceBound).containsExactly(false);
+    }
+
+    @Test
+    void 다시_해시한_비밀번호가_커밋되는_경우() {
+        authenticationService.login(EMAIL, PASSWORD);
+
+        String rehashed = userRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, rehashed)).isTrue();
+    }
+}
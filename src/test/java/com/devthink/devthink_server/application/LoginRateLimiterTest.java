@@ -0,0 +1,69 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.errors.LoginRateLimitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+    private static final long WINDOW = 60_000L;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(3, 5, 60);
+    }
+
+    @Test
+    void 이메일별_시도_횟수를_넘으면_거절() {
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check("tester@email.com", "1.1.1." + i, 0L);
+        }
+
+        assertThatThrownBy(() -> loginRateLimiter.check("TESTER@email.com ", "1.1.1.9", 0L))
+                .isInstanceOf(LoginRateLimitException.class);
+        loginRateLimiter.check("other@email.com", "1.1.1.9", 0L);
+
+        assertThat(loginRateLimiter.getAllowedCount()).isEqualTo(4L);
+        assertThat(loginRateLimiter.getRejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void IP별_시도_횟수를_넘으면_거절() {
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.check("tester" + i + "@email.com", "1.1.1.1", 0L);
+        }
+
+        assertThatThrownBy(() -> loginRateLimiter.check("new@email.com", "1.1.1.1", 0L))
+                .isInstanceOf(LoginRateLimitException.class);
+    }
+
+    @Test
+    void 직전_윈도우의_시도는_지난_비율만큼_줄여서_계산() {
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check("tester@email.com", "1.1.1.1", 0L);
+        }
+
+        // 다음 윈도우의 절반이 지나면 직전 윈도우의 3번은 1.5번으로 계산됩니다.
+        loginRateLimiter.check("tester@email.com", "1.1.1.1", WINDOW + WINDOW / 2);
+        loginRateLimiter.check("tester@email.com", "1.1.1.1", WINDOW + WINDOW / 2);
+        assertThatThrownBy(() -> loginRateLimiter.check("tester@email.com", "1.1.1.1", WINDOW + WINDOW / 2))
+                .isInstanceOf(LoginRateLimitException.class);
+
+        loginRateLimiter.check("tester@email.com", "1.1.1.1", 3 * WINDOW);
+    }
+
+    @Test
+    void 시도가_없는_키는_지움() {
+        loginRateLimiter.check("tester@email.com", "1.1.1.1", 0L);
+        assertThat(loginRateLimiter.getTrackedKeys()).isEqualTo(2);
+
+        loginRateLimiter.evictIdle(WINDOW);
+        assertThat(loginRateLimiter.getTrackedKeys()).isEqualTo(2);
+
+        loginRateLimiter.evictIdle(2 * WINDOW);
+        assertThat(loginRateLimiter.getTrackedKeys()).isZero();
+    }
+}
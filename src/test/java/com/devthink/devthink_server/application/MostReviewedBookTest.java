@@ -0,0 +1,99 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.infra.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MostReviewedBookTest {
+
+    private MostReviewedBook mostReviewedBook;
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final Book first = Book.builder().id(1L).name("first").reviewCnt(5).build();
+
+    @BeforeEach
+    void setUp() {
+        mostReviewedBook = new MostReviewedBook(bookRepository);
+
+        given(bookRepository.findTopByOrderByReviewCntDesc()).willReturn(Optional.of(first));
+    }
+
+    @Test
+    void 한번만_조회하고_메모리에서_반환() {
+        mostReviewedBook.get();
+
+        assertThat(mostReviewedBook.get().getId()).isEqualTo(1L);
+        verify(bookRepository, times(1)).findTopByOrderByReviewCntDesc();
+    }
+
+    @Test
+    void 리뷰수가_더_많아진_책으로_갱신() {
+        mostReviewedBook.get();
+
+        mostReviewedBook.changed(Book.builder().id(2L).reviewCnt(6).build());
+
+        assertThat(mostReviewedBook.get().getId()).isEqualTo(2L);
+        verify(bookRepository, times(1)).findTopByOrderByReviewCntDesc();
+    }
+
+    @Test
+    void 일위_책의_리뷰수가_줄면_다시_조회() {
+        mostReviewedBook.get();
+
+        first.downReviewCnt();
+        mostReviewedBook.changed(first);
+        mostReviewedBook.get();
+
+        verify(bookRepository, times(2)).findTopByOrderByReviewCntDesc();
+    }
+
+    @Test
+    void 트랜잭션_안의_변경은_커밋된_뒤에_반영() {
+        mostReviewedBook.get();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mostReviewedBook.changed(Book.builder().id(2L).reviewCnt(6).build());
+            assertThat(mostReviewedBook.get().getId()).isEqualTo(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(mostReviewedBook.get().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 롤백된_변경은_반영하지_않음() {
+        mostReviewedBook.get();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mostReviewedBook.changed(Book.builder().id(2L).reviewCnt(6).build());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(mostReviewedBook.get().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 책이_없으면_null() {
+        given(bookRepository.findTopByOrderByReviewCntDesc()).willReturn(Optional.empty());
+
+        assertThat(mostReviewedBook.get()).isNull();
+    }
+}
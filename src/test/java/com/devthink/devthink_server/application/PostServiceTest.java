@@ -3,21 +3,36 @@ package com.devthink.devthink_server.application;
 import com.devthink.devthink_server.domain.Category;
 import com.devthink.devthink_server.domain.Post;
 import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.dto.PostFeedData;
+import com.devthink.devthink_server.dto.PostListData;
 import com.devthink.devthink_server.dto.PostRequestData;
 import com.devthink.devthink_server.errors.PostNotFoundException;
 import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.errors.UserNotMatchException;
+import com.devthink.devthink_server.infra.CommentRepository;
 import com.devthink.devthink_server.infra.PostReportRepository;
 import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.PostSearchIndex;
+import com.devthink.devthink_server.infra.ReplyRepository;
+import com.devthink.devthink_server.infra.ReviewRepository;
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -29,12 +44,19 @@ class PostServiceTest {
     private PostService postService;
     private PostRepository postRepository = mock(PostRepository.class);
     private PostReportRepository postReportRepository = mock(PostReportRepository.class);
+    private CommentRepository commentRepository = mock(CommentRepository.class);
+    private PostSearchIndex postSearchIndex = new PostSearchIndex(postRepository);
+    private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
     @BeforeEach
     void setup(){
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
 
-        postService = new PostService(postRepository, postReportRepository, mapper);
+        HeartCounter heartCounter = new HeartCounter(postRepository, commentRepository, mock(ReplyRepository.class),
+                mock(ReviewRepository.class), mock(PlatformTransactionManager.class));
+
+        postService = new PostService(postRepository, postReportRepository, commentRepository, postSearchIndex,
+                heartCounter, mock(BestPostBoard.class), mock(UserService.class), eventPublisher, mapper);
 
 
         given(postRepository.save(any(Post.class))).will(invocation -> {
@@ -52,6 +74,19 @@ class PostServiceTest {
         });
 
 
+        given(postRepository.findFeed(eq(1L), any(Long.class), any(Pageable.class))).will(invocation -> {
+            User user = User.builder().id(1L).build();
+            Category category = Category.builder().id(1L).build();
+            Long afterId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+
+            List<PostListData> posts = new ArrayList<>();
+            for (long id = Math.min(afterId - 1, 5L); id > 0 && posts.size() < pageable.getPageSize(); id--) {
+                posts.add(Post.builder().id(id).user(user).category(category).title("test" + id).build().toPostListData());
+            }
+            return posts;
+        });
+
         given(postRepository.findById(NOT_EXISTED_ID))
                 .willThrow(new PostNotFoundException(NOT_EXISTED_ID));
 
@@ -69,6 +104,22 @@ class PostServiceTest {
 
     }
 
+    @Test
+    void 커서_없이_카테고리별_게시글을_불러오는_경우() {
+        PostFeedData feed = postService.getPosts(1L, null, 2);
+
+        assertThat(feed.getPosts()).extracting(PostListData::getId).containsExactly(5L, 4L);
+        assertThat(feed.getNextCursor()).isEqualTo(4L);
+    }
+
+    @Test
+    void 커서로_마지막_페이지를_불러오는_경우() {
+        PostFeedData feed = postService.getPosts(1L, 3L, 2);
+
+        assertThat(feed.getPosts()).extracting(PostListData::getId).containsExactly(2L, 1L);
+        assertThat(feed.getNextCursor()).isNull();
+    }
+
     @Test
     void 올바른_정보로_글을_쓰려는_경우() {
         User user = User.builder().id(1L).build();
@@ -89,6 +140,7 @@ class PostServiceTest {
         assertThat(post.getImageUrl()).isEqualTo("test.com");
 
         verify(postRepository).save(any(Post.class));
+        verify(eventPublisher).publishEvent(any(PostCreatedEvent.class));
 
     }
 
@@ -111,6 +163,7 @@ class PostServiceTest {
         assertThat(post.getTitle()).isEqualTo("test22");
         assertThat(post.getContent()).isEqualTo("test22");
         assertThat(post.getSubTitle()).isEqualTo("test");
+        verify(eventPublisher).publishEvent(any(PostUpdatedEvent.class));
 
     }
 
@@ -152,6 +205,68 @@ class PostServiceTest {
 
         postService.deletePost(user, post);
         assertThat(post.getDeleted()).isEqualTo(true);
+        verify(eventPublisher).publishEvent(any(PostDeletedEvent.class));
+    }
+
+    @Test
+    void 검색어가_담긴_게시글을_관련도_순으로_검색하는_경우() {
+        indexSearchPosts();
+
+        Page<PostListData> page = postService.search(1L, "spring", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(PostListData::getId).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void 검색_결과의_다음_페이지를_불러오는_경우() {
+        indexSearchPosts();
+
+        Page<PostListData> page = postService.search(1L, "spring", PageRequest.of(1, 1));
+
+        assertThat(page.getContent()).extracting(PostListData::getId).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void 색인에서_제거된_게시글은_검색되지_않는_경우() {
+        indexSearchPosts();
+
+        postSearchIndex.postDeleted(new PostDeletedEvent(2L));
+        Page<PostListData> page = postService.search(1L, "spring", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(PostListData::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 검색_결과가_없는_경우() {
+        indexSearchPosts();
+
+        Page<PostListData> page = postService.search(1L, "kotlin", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    // 1번은 내용에만, 2번은 제목에 검색어가 있고, 3번은 다른 카테고리의 게시글입니다.
+    private void indexSearchPosts() {
+        User user = User.builder().id(1L).build();
+        Category category = Category.builder().id(1L).build();
+        Category otherCategory = Category.builder().id(2L).build();
+        List<Post> posts = List.of(
+                Post.builder().id(1L).user(user).category(category).title("java").subTitle("").content("spring boot").build(),
+                Post.builder().id(2L).user(user).category(category).title("spring").subTitle("").content("jpa").build(),
+                Post.builder().id(3L).user(user).category(otherCategory).title("spring").subTitle("").content("spring").build());
+        posts.forEach(post -> postSearchIndex.postCreated(new PostCreatedEvent(post, user.toUserProfileData())));
+
+        given(postRepository.findListDataByIdIn(any())).will(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<PostListData> rows = new ArrayList<>();
+            posts.stream()
+                    .filter(post -> ids.contains(post.getId()))
+                    .forEach(post -> rows.add(post.toPostListData()));
+            return rows;
+        });
     }
 
     @Test
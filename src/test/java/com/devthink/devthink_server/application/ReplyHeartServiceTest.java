@@ -1,10 +1,13 @@
 package com.devthink.devthink_server.application;
 
+import com.devthink.devthink_server.domain.HeartTarget;
 import com.devthink.devthink_server.domain.Reply;
 import com.devthink.devthink_server.domain.ReplyHeart;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.dto.ReplyRequestData;
 import com.devthink.devthink_server.dto.UserRegistrationData;
+import com.devthink.devthink_server.errors.HeartAlreadyExistsException;
+import com.devthink.devthink_server.errors.HeartNotFoundException;
 import com.devthink.devthink_server.errors.ReplyNotFoundException;
 import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.devthink.devthink_server.infra.ReplyHeartRepository;
@@ -15,14 +18,19 @@ import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class ReplyHeartServiceTest {
@@ -32,16 +40,22 @@ class ReplyHeartServiceTest {
     private final UserRepository userRepository = mock(UserRepository.class);
     private final ReplyRepository replyRepository = mock(ReplyRepository.class);
     private final ReplyHeartRepository replyHeartRepository = mock(ReplyHeartRepository.class);
+    private final HeartCounter heartCounter = mock(HeartCounter.class);
     private UserService userService;
 
 
     @BeforeEach
     void setUp() {
-        replyHeartService = new ReplyHeartService(userRepository,replyRepository, replyHeartRepository);
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
 
-        userService = new UserService(userRepository, mapper, passwordEncoder);
+        userService = new UserService(userRepository, mapper, passwordEncoder,
+                new UserNameIndex(userRepository, 100), 100, 300);
+        replyHeartService = new ReplyHeartService(userService, replyRepository, replyHeartRepository,
+                heartCounter, mock(HeartCheckService.class));
+
+        given(userRepository.findByIdAndDeletedIsFalse(13L)).willReturn(Optional.of(User.builder().id(13L).build()));
+        given(userRepository.findByIdAndDeletedIsFalse(14L)).willReturn(Optional.empty());
 
         given(userRepository.save(any(User.class))).will(invocation -> {
             User user = User.builder()
@@ -63,5 +77,63 @@ class ReplyHeartServiceTest {
         });
 
     }
-    
+
+    @Test
+    void 이미_좋아요한_답글에_좋아요하면_예외() {
+        given(replyHeartRepository.saveAndFlush(any(ReplyHeart.class)))
+                .willThrow(new DataIntegrityViolationException("uk_reply_heart_reply_user"));
+        given(replyRepository.findById(10L)).willReturn(Optional.of(Reply.builder().id(10L).build()));
+
+        assertThrows(HeartAlreadyExistsException.class, () -> replyHeartService.create(10L, 13L));
+        verify(heartCounter, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    void 없는_답글에_좋아요하면_예외() {
+        given(replyHeartRepository.saveAndFlush(any(ReplyHeart.class)))
+                .willThrow(new DataIntegrityViolationException("fk_reply_heart_reply"));
+        given(replyRepository.findById(10L)).willReturn(Optional.empty());
+
+        assertThrows(ReplyNotFoundException.class, () -> replyHeartService.create(10L, 13L));
+    }
+
+    @Test
+    void 좋아요_취소() {
+        given(replyHeartRepository.deleteByReplyIdAndUserId(10L, 13L)).willReturn(1);
+
+        replyHeartService.destroy(10L, 13L);
+
+        verify(heartCounter).add(HeartTarget.REPLY, 10L, -1);
+    }
+
+    @Test
+    void 좋아요하지_않은_답글을_취소하면_예외() {
+        given(replyHeartRepository.deleteByReplyIdAndUserId(10L, 13L)).willReturn(0);
+        given(replyRepository.findById(10L)).willReturn(Optional.of(Reply.builder().id(10L).build()));
+
+        assertThrows(HeartNotFoundException.class, () -> replyHeartService.destroy(10L, 13L));
+        verify(heartCounter, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    void 탈퇴한_사용자가_좋아요하면_예외() {
+        assertThrows(UserNotFoundException.class, () -> replyHeartService.create(10L, 14L));
+        assertThrows(UserNotFoundException.class, () -> replyHeartService.destroy(10L, 14L));
+
+        verify(replyHeartRepository, never()).saveAndFlush(any(ReplyHeart.class));
+        verify(replyHeartRepository, never()).deleteByReplyIdAndUserId(any(), any());
+        verify(heartCounter, never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    void 확인한_사용자는_다시_조회하지_않음() {
+        given(userRepository.getById(13L)).willReturn(User.builder().id(13L).build());
+        given(replyHeartRepository.deleteByReplyIdAndUserId(10L, 13L)).willReturn(1);
+
+        replyHeartService.create(10L, 13L);
+        replyHeartService.destroy(10L, 13L);
+
+        verify(userRepository).findByIdAndDeletedIsFalse(13L);
+    }
+
 }
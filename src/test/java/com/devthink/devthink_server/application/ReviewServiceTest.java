@@ -6,12 +6,16 @@ import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.dto.ReviewModificationData;
 import com.devthink.devthink_server.dto.ReviewRequestData;
 import com.devthink.devthink_server.infra.BookRepository;
+import com.devthink.devthink_server.infra.CommentRepository;
+import com.devthink.devthink_server.infra.PostRepository;
+import com.devthink.devthink_server.infra.ReplyRepository;
 import com.devthink.devthink_server.infra.ReviewRepository;
 import com.devthink.devthink_server.infra.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -19,6 +23,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class ReviewServiceTest {
 
@@ -34,7 +40,7 @@ class ReviewServiceTest {
     UserRepository userRepository;
 
     User user = User.builder().id(1L).point(10).build();
-    Book book = Book.builder().id(1L).isbn("1234567891234").reviewCnt(1).scoreAvg(BigDecimal.valueOf(3.0)).build();
+    Book book = Book.builder().id(1L).isbn("1234567891234").reviewCnt(1).scoreAvg(BigDecimal.valueOf(4.5)).scoreSum(BigDecimal.valueOf(4.5)).build();
     Review review = Review.builder()
             .id(1L)
             .user(user)
@@ -48,7 +54,10 @@ class ReviewServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this); //@Mock이 붙은 객체를 생성, 초기화
-        reviewService = new ReviewService(reviewRepository, bookRepository);
+        HeartCounter heartCounter = new HeartCounter(mock(PostRepository.class), mock(CommentRepository.class),
+                mock(ReplyRepository.class), reviewRepository, mock(PlatformTransactionManager.class));
+        reviewService = new ReviewService(reviewRepository, bookRepository, heartCounter, mock(WeeklyBestBooks.class),
+                mock(MostReviewedBook.class));
     }
 
     @Test
@@ -62,19 +71,19 @@ class ReviewServiceTest {
         given(reviewRepository.save(any(Review.class))).willReturn(review);
         given(userRepository.save(any(User.class))).willReturn(user);
         given(bookRepository.save(any(Book.class))).willReturn(book);
-        given(bookRepository.calcScoreAvg(book.getId())).willReturn(BigDecimal.valueOf(3.75));
         //when
         reviewService.createReview(user, book, reviewRequestData);
         //then
         assertThat(user.getPoint()).isEqualTo(prePoint + review.getPoint()); // 유저 포인트 증가
         assertThat(book.getReviewCnt()).isEqualTo(2);   // 책 리뷰 수 증가
-        assertThat(book.getScoreAvg()).isEqualTo(BigDecimal.valueOf(3.75)); // 책 평점 변화
+        assertThat(book.getScoreAvg()).isEqualByComparingTo(BigDecimal.valueOf(4.5)); // 책 평점 변화 (4.5 + 4.5) / 2
+        verify(bookRepository).lockForUpdate(book); // 책을 잠그고 최신 값에 증감분을 더함
     }
 
     @Test
     void 리뷰수정성공() {
         //given
-        ReviewModificationData reviewModificationData = ReviewModificationData.builder().title("수정제목").content("수정내용").score(BigDecimal.valueOf(4.5)).build();
+        ReviewModificationData reviewModificationData = ReviewModificationData.builder().title("수정제목").content("수정내용").score(BigDecimal.valueOf(2.0)).build();
         Review modifiedReview = Review.builder()
                 .id(1L)
                 .user(user)
@@ -85,7 +94,6 @@ class ReviewServiceTest {
                 .point(5)
                 .build();
         given(reviewRepository.findByIdAndDeletedIsFalse(any(Long.class))).willReturn(Optional.of(review));
-        given(bookRepository.calcScoreAvg(book.getId())).willReturn(reviewModificationData.getScore());
         given(bookRepository.save(any(Book.class))).willReturn(book);
         given(reviewRepository.save(any(Review.class))).willReturn(modifiedReview);
         //when
@@ -94,7 +102,7 @@ class ReviewServiceTest {
         assertThat(review.getTitle()).isEqualTo(reviewModificationData.getTitle()); // title 변경
         assertThat(review.getContent()).isEqualTo(reviewModificationData.getContent()); // content 변경
         assertThat(review.getScore()).isEqualTo(reviewModificationData.getScore()); // score 변경
-        assertThat(book.getScoreAvg()).isEqualTo(reviewModificationData.getScore()); // 책 평점 계산
+        assertThat(book.getScoreAvg()).isEqualByComparingTo(reviewModificationData.getScore()); // 책 평점 계산
     }
 
     @Test
@@ -103,13 +111,12 @@ class ReviewServiceTest {
         int prePoint = user.getPoint();
         int preReviewCnt = book.getReviewCnt();
         given(reviewRepository.findByIdAndDeletedIsFalse(any(Long.class))).willReturn(Optional.of(review));
-        given(bookRepository.calcScoreAvg(book.getId())).willReturn(BigDecimal.valueOf(0));
         //when
         reviewService.deleteReview(review.getId(),user.getId());
         //then
         assertThat(review.getDeleted()).isEqualTo(true); // 리뷰 deleted == false
         assertThat(user.getPoint()).isEqualTo(prePoint - review.getPoint()); // 유저 포인트 감소
-        assertThat(book.getScoreAvg()).isEqualTo(BigDecimal.valueOf(0)); // 책 평점 계산
+        assertThat(book.getScoreAvg()).isEqualByComparingTo(BigDecimal.valueOf(0)); // 책 평점 계산
         assertThat(book.getReviewCnt()).isEqualTo(preReviewCnt - 1); // 책 리뷰 수 감소
     }
 
@@ -0,0 +1,55 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.IdBlock;
+import com.devthink.devthink_server.infra.IdBlockRepository;
+import com.devthink.devthink_server.infra.UserRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RoomIdAllocatorTest {
+
+    private RoomIdAllocator roomIdAllocator;
+    private final IdBlockRepository idBlockRepository = mock(IdBlockRepository.class);
+    private final UserRoomRepository userRoomRepository = mock(UserRoomRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        roomIdAllocator = new RoomIdAllocator(idBlockRepository, userRoomRepository,
+                mock(PlatformTransactionManager.class), 2);
+    }
+
+    @Test
+    void 예약한_블록을_다_쓸때만_새_블록을_예약() {
+        IdBlock block = new IdBlock(RoomIdAllocator.NAME, 10L);
+        given(idBlockRepository.findForUpdate(RoomIdAllocator.NAME)).willReturn(Optional.of(block));
+
+        assertThat(roomIdAllocator.allocate()).isEqualTo(10L);
+        assertThat(roomIdAllocator.allocate()).isEqualTo(11L);
+        verify(idBlockRepository, times(1)).findForUpdate(anyString());
+
+        assertThat(roomIdAllocator.allocate()).isEqualTo(12L);
+        verify(idBlockRepository, times(2)).findForUpdate(anyString());
+        assertThat(block.getNextValue()).isEqualTo(14L);
+    }
+
+    @Test
+    void 블록이_없으면_기존_방번호_다음부터_시작() {
+        given(idBlockRepository.findForUpdate(RoomIdAllocator.NAME)).willReturn(Optional.empty());
+        given(idBlockRepository.saveAndFlush(any(IdBlock.class))).will(invocation -> invocation.getArgument(0));
+        given(userRoomRepository.maxRoom()).willReturn(7L);
+
+        assertThat(roomIdAllocator.allocate()).isEqualTo(8L);
+        assertThat(roomIdAllocator.allocate()).isEqualTo(9L);
+    }
+}
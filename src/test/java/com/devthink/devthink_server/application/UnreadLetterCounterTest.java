@@ -0,0 +1,53 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.dto.LetterResultData;
+import com.devthink.devthink_server.infra.InboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UnreadLetterCounterTest {
+
+    private UnreadLetterCounter unreadLetterCounter;
+    private final InboxRepository inboxRepository = mock(InboxRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        InboxRepository.UnreadCount count = mock(InboxRepository.UnreadCount.class);
+        given(count.getUserId()).willReturn(2L);
+        given(count.getUnreadCnt()).willReturn(4L);
+        given(inboxRepository.sumUnreadByUser()).willReturn(List.of(count));
+
+        unreadLetterCounter = new UnreadLetterCounter(inboxRepository);
+    }
+
+    @Test
+    void 처음_조회할때_한번만_집계한다() {
+        assertThat(unreadLetterCounter.get(2L)).isEqualTo(4L);
+        assertThat(unreadLetterCounter.get(3L)).isEqualTo(0L);
+
+        verify(inboxRepository, times(1)).sumUnreadByUser();
+    }
+
+    @Test
+    void 쪽지_전송과_읽음처리를_반영한다() {
+        unreadLetterCounter.letterSent(new LetterSentEvent(1L, 2L, LetterResultData.builder().build()));
+        unreadLetterCounter.letterSent(new LetterSentEvent(1L, 3L, LetterResultData.builder().build()));
+
+        assertThat(unreadLetterCounter.get(2L)).isEqualTo(5L);
+        assertThat(unreadLetterCounter.get(3L)).isEqualTo(1L);
+
+        unreadLetterCounter.lettersRead(new LettersReadEvent(2L, 1L, 2));
+        unreadLetterCounter.lettersRead(new LettersReadEvent(3L, 1L, 5));
+
+        assertThat(unreadLetterCounter.get(2L)).isEqualTo(3L);
+        assertThat(unreadLetterCounter.get(3L)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,68 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.User;
+import com.devthink.devthink_server.domain.UserRoom;
+import com.devthink.devthink_server.infra.UserRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class UserRoomServiceTest {
+
+    private UserRoomService userRoomService;
+    private final UserRoomRepository userRoomRepository = mock(UserRoomRepository.class);
+    private final RoomIdAllocator roomIdAllocator = mock(RoomIdAllocator.class);
+
+    private final User sender = User.builder().id(2L).build();
+    private final User target = User.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        userRoomService = new UserRoomService(userRoomRepository, roomIdAllocator);
+    }
+
+    @Test
+    void 방이_있으면_한번의_조회로_반환() {
+        UserRoom userRoom = UserRoom.of(target, sender, 3L);
+        given(userRoomRepository.findByLowUserIdAndHighUserId(1L, 2L)).willReturn(Optional.of(userRoom));
+
+        assertThat(userRoomService.getOrCreateRoom(sender, target)).isSameAs(userRoom);
+
+        verify(roomIdAllocator, never()).allocate();
+        verify(userRoomRepository, never()).saveAndFlush(any(UserRoom.class));
+    }
+
+    @Test
+    void 방이_없으면_새_방번호로_생성() {
+        given(userRoomRepository.findByLowUserIdAndHighUserId(1L, 2L)).willReturn(Optional.empty());
+        given(roomIdAllocator.allocate()).willReturn(5L);
+        given(userRoomRepository.saveAndFlush(any(UserRoom.class))).will(invocation -> invocation.getArgument(0));
+
+        UserRoom userRoom = userRoomService.getOrCreateRoom(sender, target);
+
+        assertThat(userRoom.getRoomId()).isEqualTo(5L);
+        assertThat(userRoom.getLowUserId()).isEqualTo(1L);
+        assertThat(userRoom.getHighUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 동시에_같은_방이_만들어지면_먼저_만들어진_방을_반환() {
+        UserRoom created = UserRoom.of(target, sender, 4L);
+        given(userRoomRepository.findByLowUserIdAndHighUserId(1L, 2L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(created));
+        given(roomIdAllocator.allocate()).willReturn(5L);
+        given(userRoomRepository.saveAndFlush(any(UserRoom.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThat(userRoomService.getOrCreateRoom(sender, target)).isSameAs(created);
+    }
+}
@@ -3,24 +3,33 @@ package com.devthink.devthink_server.application;
 import com.devthink.devthink_server.domain.User;
 import com.devthink.devthink_server.infra.UserRepository;
 import com.devthink.devthink_server.dto.UserModificationData;
+import com.devthink.devthink_server.dto.UserProfileData;
 import com.devthink.devthink_server.dto.UserRegistrationData;
 import com.devthink.devthink_server.errors.UserEmailDuplicationException;
+import com.devthink.devthink_server.errors.UserNickNameDuplicationException;
 import com.devthink.devthink_server.errors.UserNotFoundException;
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.file.AccessDeniedException;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 
@@ -30,6 +39,7 @@ class UserServiceTest {
     private final Long DELETED_ID = 200L;
 
     private UserService userService;
+    private UserNameIndex userNameIndex;
 
     private final UserRepository userRepository = mock(UserRepository.class);
 
@@ -39,9 +49,10 @@ class UserServiceTest {
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-        userService = new UserService(userRepository, mapper, passwordEncoder);
+        userNameIndex = new UserNameIndex(userRepository, 100);
+        userService = new UserService(userRepository, mapper, passwordEncoder, userNameIndex, 100, 300);
 
-        given(userRepository.save(any(User.class))).will(invocation -> {
+        given(userRepository.saveAndFlush(any(User.class))).will(invocation -> {
             User user = User.builder()
                     .id(13L)
                     .email(EXISTED_EMAIL)
@@ -83,7 +94,180 @@ class UserServiceTest {
         assertThat(user.getId()).isEqualTo(13L);
         assertThat(user.getNickname()).isEqualTo("Test");
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void 가입할_때는_블룸_필터와_관계없이_DB로_확인() {
+        userNameIndex.load();
+        given(userRepository.existsByNickname("tester")).willReturn(true);
+        UserRegistrationData registrationData = UserRegistrationData.builder()
+                .nickname("tester")
+                .email("test@email.com")
+                .password("test")
+                .build();
+
+        assertThatThrownBy(() -> userService.registerUser(registrationData))
+                .isInstanceOf(UserNickNameDuplicationException.class);
+
+        verify(userRepository).existsByEmail("test@email.com");
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void 확인한_뒤_같은_닉네임으로_먼저_가입한_경우() {
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException(
+                "could not execute statement", new RuntimeException("Duplicate entry 'tester' for key 'uk_user_nickname'")));
+        UserRegistrationData registrationData = UserRegistrationData.builder()
+                .nickname("tester")
+                .email("test@email.com")
+                .password("test")
+                .build();
+
+        assertThatThrownBy(() -> userService.registerUser(registrationData))
+                .isInstanceOf(UserNickNameDuplicationException.class);
+    }
+
+    @Test
+    void 다른_서버에서_가입한_사용자를_주기적으로_가져옴() {
+        userNameIndex.load();
+        UserRepository.UserName name = mock(UserRepository.UserName.class);
+        given(name.getEmail()).willReturn("other@email.com");
+        given(name.getNickname()).willReturn("other");
+        given(userRepository.findNamesUpdatedSince(any())).willReturn(List.of(name));
+
+        userNameIndex.sync();
+
+        assertThat(userNameIndex.mightContainEmail("other@email.com")).isTrue();
+        assertThat(userNameIndex.mightContainNickname("other")).isTrue();
+    }
+
+    @Test
+    void 가입되지_않은_이메일과_닉네임은_DB를_조회하지_않음() {
+        given(userRepository.findAllEmails()).willReturn(List.of(EXISTED_EMAIL));
+        given(userRepository.findAllNicknames()).willReturn(List.of("Test"));
+        userNameIndex.load();
+
+        assertThat(userService.isDuplicateEmail("new@email.com")).isFalse();
+        assertThat(userService.isDuplicateNickname("newbie")).isFalse();
+
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    void 가입되었을_수_있는_이메일과_닉네임은_DB로_확인() {
+        given(userRepository.findAllEmails()).willReturn(List.of(EXISTED_EMAIL));
+        given(userRepository.findAllNicknames()).willReturn(List.of("Test"));
+        given(userRepository.existsByEmail(EXISTED_EMAIL.toUpperCase())).willReturn(true);
+        given(userRepository.existsByNickname("test ")).willReturn(true);
+        userNameIndex.load();
+
+        assertThatThrownBy(() -> userService.isDuplicateEmail(EXISTED_EMAIL.toUpperCase()))
+                .isInstanceOf(UserEmailDuplicationException.class);
+        assertThatThrownBy(() -> userService.isDuplicateNickname("test "))
+                .isInstanceOf(UserNickNameDuplicationException.class);
+
+        verify(userRepository).existsByEmail(EXISTED_EMAIL.toUpperCase());
+        verify(userRepository).existsByNickname("test ");
+    }
+
+    @Test
+    void 가입한_이메일과_닉네임을_필터에_추가() {
+        userNameIndex.load();
+        UserRegistrationData registrationData = UserRegistrationData.builder()
+                .nickname("tester")
+                .email("test@email.com")
+                .password("test")
+                .build();
+
+        userService.registerUser(registrationData);
+
+        assertThat(userNameIndex.mightContainEmail("test@email.com")).isTrue();
+        assertThat(userNameIndex.mightContainNickname("tester")).isTrue();
+    }
+
+    @Test
+    void 확인한_사용자를_다시_조회하는_경우() {
+        User proxy = User.builder().id(1L).build();
+        given(userRepository.getById(1L)).willReturn(proxy);
+
+        userService.getUser(1L);
+        User user = userService.getUser(1L);
+
+        assertThat(user).isSameAs(proxy);
+        verify(userRepository).findByIdAndDeletedIsFalse(1L);
+    }
+
+    @Test
+    void 존재하지_않는_사용자를_조회하려는_경우() {
+        assertThatThrownBy(() -> userService.getUser(NOT_EXISTED_ID))
+                .isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> userService.getUser(NOT_EXISTED_ID))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(userRepository, times(2)).findByIdAndDeletedIsFalse(NOT_EXISTED_ID);
+    }
+
+    @Test
+    void 삭제한_사용자를_다시_조회하는_경우() {
+        userService.getUser(1L);
+        userService.deleteUser(1L);
+        userService.getUser(1L);
+
+        verify(userRepository, times(3)).findByIdAndDeletedIsFalse(1L);
+    }
+
+    @Test
+    void 트랜잭션_안에서_삭제한_사용자는_커밋_후에_캐시에서_지운다() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.getUser(1L);
+            userService.deleteUser(1L);
+            userService.getUser(1L);
+            verify(userRepository, times(2)).findByIdAndDeletedIsFalse(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userService.getUser(1L);
+
+        verify(userRepository, times(3)).findByIdAndDeletedIsFalse(1L);
+    }
+
+    @Test
+    void 캐시된_프로필은_DB를_조회하지_않음() {
+        given(userRepository.getById(1L)).willReturn(User.builder().id(1L).build());
+
+        userService.getProfile(1L);
+        userService.getUser(1L);
+        UserProfileData profile = userService.getProfile(1L);
+
+        assertThat(profile.getId()).isEqualTo(1L);
+        assertThat(profile.getDeleted()).isFalse();
+        verify(userRepository).findByIdAndDeletedIsFalse(1L);
+    }
+
+    @Test
+    void 트랜잭션_안에서_수정한_사용자의_프로필은_커밋_후에_캐시에서_지운다() throws AccessDeniedException {
+        UserModificationData modificationData = UserModificationData.builder()
+                .nickname("changed")
+                .role("senior")
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.getProfile(1L);
+            userService.updateUser(1L, modificationData, 1L);
+            assertThat(userService.getProfile(1L).getNickname()).isNull();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(userService.getProfile(1L).getNickname()).isEqualTo("changed");
+        verify(userRepository, times(3)).findByIdAndDeletedIsFalse(1L);
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.devthink.devthink_server.application;
+
+import com.devthink.devthink_server.domain.Book;
+import com.devthink.devthink_server.domain.Review;
+import com.devthink.devthink_server.infra.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WeeklyBestBooksTest {
+
+    private WeeklyBestBooks weeklyBestBooks;
+    private final BookRepository bookRepository = mock(BookRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        weeklyBestBooks = new WeeklyBestBooks(bookRepository);
+
+        given(bookRepository.countReviewsInPeriod(any(), any())).willReturn(List.of(
+                reviewCount(1L, 2L), reviewCount(2L, 3L), reviewCount(3L, 1L),
+                reviewCount(4L, 5L), reviewCount(5L, 4L), reviewCount(6L, 1L)
+        ));
+    }
+
+    @Test
+    void 리뷰가_많은_책_5권을_순서대로_반환() {
+        WeeklyBestBooks.Snapshot snapshot = weeklyBestBooks.getSnapshot();
+
+        assertThat(snapshot.getBookIds()).containsExactly(4L, 5L, 2L, 1L, 3L);
+    }
+
+    @Test
+    void 한번_집계한_결과를_재사용() {
+        weeklyBestBooks.getSnapshot();
+        weeklyBestBooks.getSnapshot();
+
+        verify(bookRepository, times(1)).countReviewsInPeriod(any(), any());
+        verify(bookRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void 집계기간의_리뷰가_삭제되면_순위를_다시_계산() {
+        WeeklyBestBooks.Snapshot before = weeklyBestBooks.getSnapshot();
+
+        weeklyBestBooks.reviewDeleted(review(3L, before.getStart().plusDays(1)));
+
+        WeeklyBestBooks.Snapshot after = weeklyBestBooks.getSnapshot();
+        assertThat(after.getBookIds()).containsExactly(4L, 5L, 2L, 1L, 6L);
+    }
+
+    @Test
+    void 리뷰_삭제가_롤백되면_순위는_그대로() {
+        WeeklyBestBooks.Snapshot before = weeklyBestBooks.getSnapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            weeklyBestBooks.reviewDeleted(review(3L, before.getStart().plusDays(1)));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(weeklyBestBooks.getSnapshot()).isSameAs(before);
+    }
+
+    @Test
+    void 리뷰_삭제가_커밋된_뒤에_순위를_다시_계산() {
+        WeeklyBestBooks.Snapshot before = weeklyBestBooks.getSnapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            weeklyBestBooks.reviewDeleted(review(3L, before.getStart().plusDays(1)));
+            assertThat(weeklyBestBooks.getSnapshot()).isSameAs(before);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(weeklyBestBooks.getSnapshot().getBookIds()).containsExactly(4L, 5L, 2L, 1L, 6L);
+    }
+
+    @Test
+    void 이번주_리뷰가_삭제되면_순위는_그대로() {
+        WeeklyBestBooks.Snapshot before = weeklyBestBooks.getSnapshot();
+
+        weeklyBestBooks.reviewDeleted(review(4L, before.getEnd().plusHours(1)));
+
+        assertThat(weeklyBestBooks.getSnapshot()).isSameAs(before);
+    }
+
+    private BookRepository.ReviewCount reviewCount(Long bookId, Long reviewCnt) {
+        return new BookRepository.ReviewCount() {
+            @Override
+            public Long getBookId() {
+                return bookId;
+            }
+
+            @Override
+            public Long getReviewCnt() {
+                return reviewCnt;
+            }
+        };
+    }
+
+    private Review review(Long bookId, LocalDateTime createAt) {
+        Review review = mock(Review.class);
+        given(review.getBook()).willReturn(Book.builder().id(bookId).build());
+        given(review.getCreateAt()).willReturn(createAt);
+        return review;
+    }
+}
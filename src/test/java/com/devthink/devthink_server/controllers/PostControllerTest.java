@@ -5,7 +5,10 @@ import com.devthink.devthink_server.application.CategoryService;
 import com.devthink.devthink_server.application.PostService;
 import com.devthink.devthink_server.application.UserService;
 import com.devthink.devthink_server.domain.*;
+import com.devthink.devthink_server.dto.PostFeedData;
+import com.devthink.devthink_server.dto.PostListData;
 import com.devthink.devthink_server.dto.PostRequestData;
+import com.devthink.devthink_server.dto.UserProfileData;
 import com.devthink.devthink_server.errors.CategoryNotFoundException;
 import com.devthink.devthink_server.errors.PostNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -52,7 +57,7 @@ class PostControllerTest {
     @BeforeEach
     void setup() {
 
-        given(postService.getPosts(eq(1L))).will(invocation -> {
+        given(postService.getPosts(eq(1L), any(), anyInt())).will(invocation -> {
             User user = User.builder().id(1L).build();
             Category category = Category.builder().id(1L).build();
             Post post = Post.builder()
@@ -64,9 +69,9 @@ class PostControllerTest {
                     .imageUrl("test.com")
                     .build();
 
-            List<Post> postList = new ArrayList<>();
-            postList.add(post);
-            return postList;
+            List<PostListData> postList = new ArrayList<>();
+            postList.add(post.toPostListData());
+            return PostFeedData.builder().posts(postList).build();
         });
 
         given(postService.savePost(any(User.class), any(Category.class), any(PostRequestData.class))).will(invocation -> {
@@ -89,6 +94,8 @@ class PostControllerTest {
                     .build();
         });
 
+        given(userService.getProfile(1L)).willReturn(UserProfileData.builder().id(1L).nickname("writer").build());
+
         given(categoryService.getCategory(1L)).will(invocation -> {
             return Category.builder()
                     .id(1L)
@@ -127,7 +134,7 @@ class PostControllerTest {
                             .build();
                 });
 
-        given(postService.search(eq(1L), eq("test")))
+        given(postService.search(eq(1L), eq("test"), any(Pageable.class)))
                 .will(invocation -> {
                     User user = User.builder().id(1L).build();
                     Category category = Category.builder().id(1L).build();
@@ -140,9 +147,9 @@ class PostControllerTest {
                             .content("test")
                             .build();
 
-                    List<Post> posts = new ArrayList<>();
-                    posts.add(post);
-                    return posts;
+                    List<PostListData> posts = new ArrayList<>();
+                    posts.add(post.toPostListData());
+                    return new PageImpl<>(posts);
                 });
 
         given(postService.getBestPost(any(Category.class)))
@@ -159,16 +166,30 @@ class PostControllerTest {
                             .heartCnt(1)
                             .build();
 
-                    List<Post> posts = new ArrayList<>();
-                    posts.add(post);
+                    List<PostListData> posts = new ArrayList<>();
+                    posts.add(post.toPostListData());
                     return posts;
                 });
 
 
+        given(postService.getPostDetail(eq(1L), any()))
+                .will(invocation -> {
+                    User user = User.builder().id(1L).build();
+                    Category category = Category.builder().id(1L).build();
+                    return Post.builder()
+                            .id(1L)
+                            .user(user)
+                            .category(category)
+                            .title("test")
+                            .content("test2")
+                            .build()
+                            .toPostResponseData(invocation.getArgument(1));
+                });
+
         given(postService.getPostById(eq(100L)))
                 .willThrow(new PostNotFoundException(100L));
 
-        given(postService.getPosts(eq(100L)))
+        given(postService.getPosts(eq(100L), any(), anyInt()))
                 .willThrow(new CategoryNotFoundException(100L));
 
         given(authenticationService.parseToken(VALID_TOKEN)).willReturn(1L);
@@ -182,7 +203,7 @@ class PostControllerTest {
                 .andExpect(content().string(containsString("test")))
                 .andExpect(content().string(containsString("test2")));
 
-        verify(postService).getPostById(eq(1L));
+        verify(postService).getPostDetail(eq(1L), any());
     }
 
     @Test
@@ -207,6 +228,9 @@ class PostControllerTest {
                 ))
                 .andExpect(content().string(
                         containsString("\"imageUrl\":\"test.com\"")
+                ))
+                .andExpect(content().string(
+                        containsString("\"nickname\":\"writer\"")
                 ));
     }
 
@@ -308,7 +332,7 @@ class PostControllerTest {
                         containsString("\"imageUrl\":\"test.com\"")
                 ));
 
-        verify(postService).getPosts(1L);
+        verify(postService).getPosts(eq(1L), any(), anyInt());
     }
 
     @Test
@@ -331,7 +355,7 @@ class PostControllerTest {
                 .andExpect(content().string(
                         containsString("\"title\":\"test\"")
                 ));
-        verify(postService).search(1L, "test");
+        verify(postService).search(eq(1L), eq("test"), any(Pageable.class));
 
     }
 
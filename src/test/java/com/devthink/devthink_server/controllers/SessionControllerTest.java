@@ -1,7 +1,11 @@
 package com.devthink.devthink_server.controllers;
 
 import com.devthink.devthink_server.application.AuthenticationService;
+import com.devthink.devthink_server.application.LoginRateLimiter;
+import com.devthink.devthink_server.dto.SessionResponseData;
+import com.devthink.devthink_server.errors.InvalidTokenException;
 import com.devthink.devthink_server.errors.LoginFailException;
+import com.devthink.devthink_server.errors.LoginRateLimitException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -26,13 +36,26 @@ class SessionControllerTest {
     @MockBean
     private AuthenticationService authenticationService;
 
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
     @BeforeEach
     void setUp() {
-        given(authenticationService.login("tester@email.com", "test")).willReturn("a.b.c");
+        given(authenticationService.login("tester@email.com", "test"))
+                .willReturn(SessionResponseData.builder().accessToken("a.b.c").refreshToken("d.e.f").build());
+
+        given(authenticationService.refresh("d.e.f"))
+                .willReturn(SessionResponseData.builder().accessToken("g.h.i").refreshToken("j.k.l").build());
+
+        given(authenticationService.refresh("x.y.z")).willThrow(new InvalidTokenException("x.y.z"));
+
+        given(authenticationService.parseToken("a.b.c")).willReturn(1L);
 
         given(authenticationService.login("badbad@email.com", "test")).willThrow(new LoginFailException("badbad@demail.com"));
 
         given(authenticationService.login("tester@email.com", "xxx")).willThrow(new LoginFailException("badbad@email.com"));
+
+        willThrow(new LoginRateLimitException()).given(loginRateLimiter).check(eq("stuffing@email.com"), any());
     }
 
 
@@ -43,10 +66,22 @@ class SessionControllerTest {
                         .content("{\"email\":\"tester@email.com\",\"password\":\"test\"}")
                 )
                 .andExpect(status().isCreated())
-                .andExpect(content().string(containsString(".")));
+                .andExpect(content().string(containsString("\"accessToken\":\"a.b.c\"")))
+                .andExpect(content().string(containsString("\"refreshToken\":\"d.e.f\"")));
 
     }
 
+    @Test
+    void 로그인_시도_횟수를_넘은_경우() throws Exception {
+        mvc.perform(post("/session")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"stuffing@email.com\",\"password\":\"test\"}")
+                )
+                .andExpect(status().isTooManyRequests());
+
+        verify(authenticationService, never()).login(eq("stuffing@email.com"), any());
+    }
+
     @Test
     void 잘못된_email로_로그인하는_경우() throws Exception {
         mvc.perform(post("/session")
@@ -66,4 +101,35 @@ class SessionControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+
+    @Test
+    void 올바른_리프레시_토큰으로_재발급하는_경우() throws Exception {
+        mvc.perform(post("/session/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"d.e.f\"}")
+                )
+                .andExpect(status().isCreated())
+                .andExpect(content().string(containsString("\"accessToken\":\"g.h.i\"")));
+    }
+
+    @Test
+    void 잘못된_리프레시_토큰으로_재발급하는_경우() throws Exception {
+        mvc.perform(post("/session/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"x.y.z\"}")
+                )
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 로그아웃하는_경우() throws Exception {
+        mvc.perform(delete("/session")
+                        .header("Authorization", "Bearer a.b.c")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"d.e.f\"}")
+                )
+                .andExpect(status().isNoContent());
+
+        verify(authenticationService).logout("a.b.c", "d.e.f");
+    }
 }
@@ -0,0 +1,40 @@
+package com.devthink.devthink_server.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookTest {
+
+    @Test
+    void 리뷰_추가_수정_삭제시_평점을_증감분으로_계산() {
+        Book book = Book.builder().build();
+        Review first = Review.builder().score(BigDecimal.valueOf(4.0)).build();
+        Review second = Review.builder().score(BigDecimal.valueOf(3.0)).build();
+
+        book.addReview(first);
+        book.addReview(second);
+        assertThat(book.getReviewCnt()).isEqualTo(2);
+        assertThat(book.getScoreAvg()).isEqualByComparingTo("3.5");
+
+        book.changeScore(BigDecimal.valueOf(3.0), BigDecimal.valueOf(5.0));
+        assertThat(book.getScoreAvg()).isEqualByComparingTo("4.5");
+
+        book.removeReview(first);
+        assertThat(book.getReviewCnt()).isEqualTo(1);
+        assertThat(book.getScoreAvg()).isEqualByComparingTo("5.0");
+    }
+
+    @Test
+    void 집계값과_다르면_보정() {
+        Book book = Book.builder().reviewCnt(3).scoreSum(BigDecimal.valueOf(9.0)).scoreAvg(BigDecimal.valueOf(3.0)).build();
+
+        assertThat(book.reconcile(3, BigDecimal.valueOf(9.0))).isFalse();
+        assertThat(book.reconcile(2, BigDecimal.valueOf(7.0))).isTrue();
+        assertThat(book.getReviewCnt()).isEqualTo(2);
+        assertThat(book.getScoreSum()).isEqualByComparingTo("7.0");
+        assertThat(book.getScoreAvg()).isEqualByComparingTo("3.5");
+    }
+}
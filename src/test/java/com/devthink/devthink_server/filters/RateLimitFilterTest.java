@@ -0,0 +1,76 @@
+package com.devthink.devthink_server.filters;
+
+import com.devthink.devthink_server.security.UserAuthentication;
+import com.devthink.devthink_server.utils.AdaptiveConcurrencyLimit;
+import com.devthink.devthink_server.utils.ClientIpResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 사용자별_요청_수를_넘으면_429와_Retry_After() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(2, 0.5, 100,
+                new AdaptiveConcurrencyLimit(10, 1, 10, 1000), new ClientIpResolver(List.of()));
+        SecurityContextHolder.getContext().setAuthentication(new UserAuthentication(1L));
+
+        assertThat(perform(filter, "/posts/list/1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "/posts/list/2").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse response = perform(filter, "/posts/list/3");
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+
+        SecurityContextHolder.getContext().setAuthentication(new UserAuthentication(2L));
+        assertThat(perform(filter, "/posts/list/3").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 비로그인_요청은_프록시가_전달한_클라이언트_IP_별로_제한() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(1, 0.5, 100,
+                new AdaptiveConcurrencyLimit(10, 1, 10, 1000), new ClientIpResolver(List.of("10.0.0.0/8")));
+
+        assertThat(perform(filter, "/books", "1.1.1.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "/books", "1.1.1.1").getStatus()).isEqualTo(429);
+        assertThat(perform(filter, "/books", "2.2.2.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 동시_처리_상한에_도달하면_429() throws Exception {
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(1, 1, 1, 1000);
+        RateLimitFilter filter = new RateLimitFilter(100, 100, 100, concurrencyLimit, new ClientIpResolver(List.of()));
+        concurrencyLimit.tryAcquire();
+
+        MockHttpServletResponse response = perform(filter, "/messages/lists");
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String uri) throws Exception {
+        return perform(filter, uri, null);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String uri, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (forwardedFor != null) {
+            request.setRemoteAddr("10.0.0.5");
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,69 @@
+package com.devthink.devthink_server.infra;
+
+import com.devthink.devthink_server.domain.*;
+import com.devthink.devthink_server.dto.PostResponseData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostDetailQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private Long postId;
+
+    @BeforeEach
+    void setup() {
+        Category category = entityManager.persist(Category.builder().name("free").build());
+        User writer = entityManager.persist(User.builder().email("writer@email.com").nickname("writer").build());
+        Post post = entityManager.persist(Post.builder().user(writer).category(category).title("test").content("test").build());
+        postId = post.getId();
+
+        for (int i = 0; i < 5; i++) {
+            User commenter = entityManager.persist(User.builder().email("commenter" + i + "@email.com").nickname("commenter" + i).build());
+            Comment comment = entityManager.persist(Comment.builder().user(commenter).post(post).content("comment" + i).build());
+            for (int j = 0; j < 4; j++) {
+                User replier = entityManager.persist(User.builder().email("replier" + i + j + "@email.com").nickname("replier" + i + j).build());
+                entityManager.persist(Reply.builder().user(replier).comment(comment).content("reply" + j).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 게시글_상세를_댓글_수와_관계없이_두_번의_쿼리로_조회하는_경우() {
+        Post post = postRepository.findDetailById(postId).orElseThrow();
+        List<Comment> comments = commentRepository.findAllWithReplysByPostId(postId);
+
+        PostResponseData postResponseData = post.toPostResponseData(false, comments);
+
+        assertThat(postResponseData.getUserProfile().getNickname()).isEqualTo("writer");
+        assertThat(postResponseData.getComments()).hasSize(5);
+        assertThat(postResponseData.getComments().get(0).getReplys()).hasSize(4);
+        assertThat(postResponseData.getComments().get(4).getReplys().get(3).getUserProfile().getNickname())
+                .isEqualTo("replier43");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
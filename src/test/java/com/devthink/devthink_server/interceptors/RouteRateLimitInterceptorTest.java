@@ -0,0 +1,43 @@
+package com.devthink.devthink_server.interceptors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteRateLimitInterceptorTest {
+    private final RouteRateLimitInterceptor interceptor = new RouteRateLimitInterceptor(1, 0.5, 100);
+
+    @Test
+    void 경로의_값이_달라도_같은_패턴이면_같이_제한() throws Exception {
+        assertThat(preHandle("/users/emailCheck/a@email.com", "/users/emailCheck/{userEmail}")).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(
+                request("/users/emailCheck/b@email.com", "/users/emailCheck/{userEmail}"), response, null)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+
+        assertThat(preHandle("/users/nicknameCheck/tester", "/users/nicknameCheck/{nickname}")).isTrue();
+    }
+
+    @Test
+    void 매핑된_패턴이_없으면_제한하지_않음() throws Exception {
+        assertThat(preHandle("/unknown", null)).isTrue();
+        assertThat(preHandle("/unknown", null)).isTrue();
+    }
+
+    private boolean preHandle(String uri, String pattern) throws Exception {
+        return interceptor.preHandle(request(uri, pattern), new MockHttpServletResponse(), null);
+    }
+
+    private static MockHttpServletRequest request(String uri, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        return request;
+    }
+}
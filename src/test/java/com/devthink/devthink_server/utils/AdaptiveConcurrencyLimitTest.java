@@ -0,0 +1,106 @@
+package com.devthink.devthink_server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    void 상한에_도달하면_거절() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 100);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(FAST, System.nanoTime());
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 목표_시간_안에_끝나면_상한을_올림() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 100);
+
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, System.nanoTime());
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void 목표_시간을_넘기면_목표_시간마다_한번_상한을_줄임() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 10, 200, 100);
+        long now = System.nanoTime();
+
+        limit.tryAcquire();
+        limit.release(SLOW, now);
+        limit.tryAcquire();
+        limit.release(SLOW, now + FAST);
+        assertThat(limit.getLimit()).isEqualTo(90);
+
+        limit.tryAcquire();
+        limit.release(SLOW, now + SLOW);
+        assertThat(limit.getLimit()).isEqualTo(81);
+    }
+
+    @Test
+    void 동시에_느린_응답이_끝나도_목표_시간마다_한번만_줄임() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 10, 200, 100);
+        long now = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> releases = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                limit.tryAcquire();
+                releases.add(executor.submit(() -> {
+                    start.await();
+                    limit.release(SLOW, now);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> release : releases) {
+                release.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(90);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void 동시에_빠른_응답이_끝나면_모두_상한에_반영() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> releases = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                releases.add(executor.submit(() -> limit.release(FAST, System.nanoTime())));
+            }
+            for (Future<?> release : releases) {
+                release.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+}
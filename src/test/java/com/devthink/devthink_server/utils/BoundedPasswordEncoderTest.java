@@ -0,0 +1,66 @@
+package com.devthink.devthink_server.utils;
+
+import com.devthink.devthink_server.errors.PasswordHashBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BoundedPasswordEncoderTest {
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 전용_스레드에서_해시를_계산() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        String encoded = passwordEncoder.encode("test1234567");
+
+        assertThat(passwordEncoder.matches("test1234567", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("xxx", encoded)).isFalse();
+    }
+
+    @Test
+    void 설정된_비용보다_낮은_해시는_다시_해시() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("test"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("test"))).isFalse();
+    }
+
+    @Test
+    void 스레드풀이_가득_차면_거절() throws Exception {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.matches(any(), any())).will(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 0);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "b"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> passwordEncoder.matches("a", "b"))
+                .isInstanceOf(PasswordHashBusyException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package com.devthink.devthink_server.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "192.168.0.1"));
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_요청은_헤더를_무시() {
+        MockHttpServletRequest request = request("203.0.113.7", "1.2.3.4");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 프록시를_거친_요청은_오른쪽부터_신뢰하지_않는_첫_주소를_사용() {
+        MockHttpServletRequest request = request("10.0.0.5", "1.2.3.4, 203.0.113.7, 192.168.0.1");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 여러_헤더는_순서대로_이어서_확인() {
+        MockHttpServletRequest request = request("10.0.0.5", "1.2.3.4");
+        request.addHeader("X-Forwarded-For", "10.0.0.9");
+
+        assertThat(resolver.resolve(request)).isEqualTo("1.2.3.4");
+    }
+
+    @Test
+    void 주소가_아닌_값은_클라이언트로_보지_않음() {
+        MockHttpServletRequest request = request("10.0.0.5", "evil.example.com");
+
+        assertThat(resolver.resolve(request)).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void 신뢰하는_프록시가_없으면_연결한_주소를_사용() {
+        ClientIpResolver direct = new ClientIpResolver(List.of(""));
+
+        assertThat(direct.resolve(request("10.0.0.5", "1.2.3.4"))).isEqualTo("10.0.0.5");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
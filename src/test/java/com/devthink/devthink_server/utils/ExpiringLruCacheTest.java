@@ -0,0 +1,155 @@
+package com.devthink.devthink_server.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+    private final MutableClock clock = new MutableClock();
+    private ExpiringLruCache<String, Long> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringLruCache<>(2, 1000, clock);
+    }
+
+    @Test
+    void 유효_시간이_지나면_버림() {
+        cache.put("a", 1L);
+        clock.millis += 999;
+        assertThat(cache.get("a")).isEqualTo(1L);
+
+        clock.millis += 1;
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void 전달된_만료_시각이_먼저_오면_그때_버림() {
+        cache.put("a", 1L, clock.millis + 10);
+        clock.millis += 10;
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용되지_않은_항목을_버림() {
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.get("a");
+        cache.put("c", 3L);
+
+        assertThat(cache.get("a")).isEqualTo(1L);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3L);
+    }
+
+    @Test
+    void 조회할_때마다_유효_시간을_다시_시작() {
+        ExpiringLruCache<String, Long> idleCache = new ExpiringLruCache<>(2, 1000, true, clock);
+        idleCache.put("a", 1L);
+
+        for (int i = 0; i < 3; i++) {
+            clock.millis += 999;
+            assertThat(idleCache.get("a")).isEqualTo(1L);
+        }
+
+        clock.millis += 1000;
+        assertThat(idleCache.get("a")).isNull();
+    }
+
+    @Test
+    void 조회해도_전달된_만료_시각은_넘기지_않음() {
+        ExpiringLruCache<String, Long> idleCache = new ExpiringLruCache<>(2, 1000, true, clock);
+        idleCache.put("a", 1L, clock.millis + 1500);
+
+        clock.millis += 999;
+        assertThat(idleCache.get("a")).isEqualTo(1L);
+        clock.millis += 501;
+        assertThat(idleCache.get("a")).isNull();
+    }
+
+    @Test
+    void 버린_값은_유효할_때만_한번_반환() {
+        cache.put("a", 1L);
+        cache.put("b", 2L, clock.millis + 10);
+        clock.millis += 10;
+
+        assertThat(cache.remove("a")).isEqualTo(1L);
+        assertThat(cache.remove("a")).isNull();
+        assertThat(cache.remove("b")).isNull();
+    }
+
+    @Test
+    void 세그먼트로_나눠도_최대_크기를_넘지_않음() {
+        ExpiringLruCache<Integer, Integer> large = new ExpiringLruCache<>(1024, 1000, clock);
+
+        for (int i = 0; i < 5000; i++) {
+            large.put(i, i);
+        }
+
+        assertThat(large.size()).isLessThanOrEqualTo(1024).isGreaterThan(512);
+        assertThat(large.get(4999)).isEqualTo(4999);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_저장하고_조회() throws Exception {
+        ExpiringLruCache<Integer, Integer> large = new ExpiringLruCache<>(10000, 1000, clock);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 1000;
+                tasks.add(executor.submit(() -> {
+                    for (int i = offset; i < offset + 1000; i++) {
+                        large.computeIfAbsent(i, key -> key * 2);
+                        assertThat(large.get(i)).isEqualTo(i * 2);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(large.size()).isEqualTo(8000);
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis = 1_000_000L;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
@@ -19,7 +19,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil(SECRET);
+        jwtUtil = new JwtUtil(SECRET, 1800, 1209600);
     }
     
     @Test
@@ -30,6 +30,25 @@ class JwtUtilTest {
         Claims claims = jwtUtil.decode(token);
 
         assertThat(claims.get("userId", Long.class)).isEqualTo(userId);
+        assertThat(claims.get(JwtUtil.TOKEN_TYPE, String.class)).isEqualTo(JwtUtil.ACCESS_TOKEN);
+        assertThat(claims.getId()).isNotBlank();
+        assertThat(claims.getExpiration()).isAfter(claims.getIssuedAt());
+    }
+
+    @Test
+    void 리프레시_토큰_발급() {
+        Claims claims = jwtUtil.decode(jwtUtil.encodeRefreshToken(1L));
+
+        assertThat(claims.get(JwtUtil.TOKEN_TYPE, String.class)).isEqualTo(JwtUtil.REFRESH_TOKEN);
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime()).isEqualTo(1209600_000L);
+    }
+
+    @Test
+    void 만료된_토큰() {
+        JwtUtil expired = new JwtUtil(SECRET, -10, -10);
+
+        assertThatThrownBy(() -> jwtUtil.decode(expired.encode(1L)))
+                .isInstanceOf(InvalidTokenException.class);
     }
                                  
     @Test
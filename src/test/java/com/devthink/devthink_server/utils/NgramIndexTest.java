@@ -0,0 +1,64 @@
+package com.devthink.devthink_server.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1L, NgramIndex.field("자바 입문", 3), NgramIndex.longField("스프링부트로 만드는 서버", 1));
+        index.put(2L, NgramIndex.field("스프링 부트", 3), NgramIndex.longField("JPA 입문을 곁들인", 1));
+        index.put(3L, NgramIndex.field("Kotlin in Action", 3));
+    }
+
+    @Test
+    void 띄어쓰기와_관계없이_부분_문자열로_검색() {
+        assertThat(index.search("스프링부트", 10).getIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("action", 10).getIds()).containsExactly(3L);
+    }
+
+    @Test
+    void 가중치가_높은_필드에_있는_문서를_먼저_반환() {
+        assertThat(index.search("입문", 10).getIds()).containsExactly(1L, 2L);
+        assertThat(index.search("스프링부트", 10).getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 한_글자_검색어는_긴_필드에서_찾지_않음() {
+        assertThat(index.search("자", 10).getIds()).containsExactly(1L);
+        assertThat(index.search("서", 10).getIds()).isEmpty();
+    }
+
+    @Test
+    void 다른_파티션이나_포함하지_않는_문서는_제외() {
+        index.put(4L, 7L, NgramIndex.field("파이썬 입문", 3));
+
+        assertThat(index.search(7L, "입문", 10).getIds()).containsExactly(4L);
+        assertThat(index.search("입문", 10).getIds()).containsExactly(1L, 2L);
+        assertThat(index.search("파이썬", 10).getIds()).isEmpty();
+        assertThat(index.search("   ", 10).getIds()).isEmpty();
+    }
+
+    @Test
+    void 상위_문서만_고르고_전체_개수는_함께_반환() {
+        NgramIndex.Hits hits = index.search("입문", 1);
+
+        assertThat(hits.getIds()).containsExactly(1L);
+        assertThat(hits.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void 수정하거나_삭제한_문서는_새_내용으로_검색() {
+        index.put(3L, NgramIndex.field("Kotlin 입문", 3));
+        index.remove(1L);
+
+        assertThat(index.search("action", 10).getIds()).isEmpty();
+        assertThat(index.search("입문", 10).getIds()).containsExactly(3L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
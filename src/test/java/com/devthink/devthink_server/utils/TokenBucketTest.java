@@ -0,0 +1,39 @@
+package com.devthink.devthink_server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void 모인_토큰만큼_몰린_요청을_허용() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0L);
+
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void 지난_시간만큼_토큰을_채움() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0L);
+        bucket.tryConsume(0L);
+
+        assertThat(bucket.tryConsume(SECOND / 4)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+    }
+
+    @Test
+    void 최대_크기보다_많이_채우지_않음() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+
+        assertThat(bucket.tryConsume(10 * SECOND)).isZero();
+        assertThat(bucket.tryConsume(10 * SECOND)).isZero();
+        assertThat(bucket.tryConsume(10 * SECOND)).isPositive();
+    }
+}